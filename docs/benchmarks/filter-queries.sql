@@ -0,0 +1,88 @@
+-- Compares the former "(:x IS NULL OR ...)" filter queries with the predicate-only SQL
+-- generated by the JPA Specifications, on 1M users and 1M products.
+-- Runs in its own schema and drops it at the end: psql -d restaurant -f filter-queries.sql
+
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+DROP SCHEMA IF EXISTS filter_bench CASCADE;
+CREATE SCHEMA filter_bench;
+SET search_path = filter_bench, public;
+
+CREATE TABLE user_profile (
+    id      BIGINT PRIMARY KEY,
+    cpf     VARCHAR(255),
+    email   VARCHAR(255),
+    name    VARCHAR(255),
+    phone   VARCHAR(255),
+    profile VARCHAR(255)
+);
+
+CREATE TABLE product (
+    id               BIGINT PRIMARY KEY,
+    category         VARCHAR(255),
+    measurement_unit VARCHAR(255),
+    name             VARCHAR(255),
+    price            NUMERIC(38, 2)
+);
+
+INSERT INTO user_profile
+SELECT g, lpad(g::text, 11, '0'), 'user' || g || '@example.com', 'User ' || md5(g::text), '55479' || lpad(g::text, 8, '0'),
+       CASE WHEN g % 20 = 0 THEN 'OWNER' ELSE 'EMPLOYEE' END
+FROM generate_series(1, 1000000) g;
+
+INSERT INTO product
+SELECT g, (ARRAY ['PERISHABLES', 'NOT_PERISHABLE', 'CANNED', 'BEVERAGES', 'CONDIMENTS', 'BAKERY', 'DAIRY', 'MEAT', 'SEAFOOD', 'PREPARED_FOOD'])[g % 10 + 1],
+       (ARRAY ['KILOGRAM', 'UNIT', 'LITER', 'MILLILITER', 'BOX', 'DOZEN'])[g % 6 + 1], 'Product ' || md5(g::text), g % 500
+FROM generate_series(1, 1000000) g;
+
+-- Same indexes as V5 and V6
+CREATE INDEX ON user_profile (email);
+CREATE INDEX ON user_profile (cpf);
+CREATE INDEX ON user_profile (phone);
+CREATE INDEX ON user_profile USING gin (lower(name) gin_trgm_ops);
+CREATE INDEX ON product USING gin (lower(name) gin_trgm_ops);
+CREATE INDEX ON product (category, measurement_unit);
+ANALYZE user_profile;
+ANALYZE product;
+
+-- Hibernate reuses server-side prepared statements, so the catch-all query ends up on a generic plan
+SET plan_cache_mode = force_generic_plan;
+
+PREPARE user_before(text, text, text, text, text) AS
+SELECT * FROM user_profile
+WHERE ($1 IS NULL OR email = $1)
+  AND ($2 IS NULL OR cpf = $2)
+  AND ($3 IS NULL OR lower(name) LIKE lower('%' || $3 || '%'))
+  AND ($4 IS NULL OR phone = $4)
+  AND ($5 IS NULL OR profile = $5);
+
+PREPARE product_before(text, text, text) AS
+SELECT * FROM product
+WHERE ($1 IS NULL OR lower(name) LIKE lower('%' || $1 || '%'))
+  AND ($2 IS NULL OR measurement_unit = $2)
+  AND ($3 IS NULL OR category = $3);
+
+PREPARE user_by_email_after(text) AS SELECT * FROM user_profile WHERE email = $1;
+PREPARE user_by_cpf_after(text) AS SELECT * FROM user_profile WHERE cpf = $1;
+PREPARE user_by_name_after(text) AS SELECT * FROM user_profile WHERE lower(name) LIKE $1 ESCAPE '\';
+PREPARE product_by_name_after(text) AS SELECT * FROM product WHERE lower(name) LIKE $1 ESCAPE '\';
+PREPARE product_by_category_unit_after(text, text) AS SELECT * FROM product WHERE category = $1 AND measurement_unit = $2;
+
+EXPLAIN (ANALYZE, COSTS OFF, TIMING OFF) EXECUTE user_before('user777777@example.com', NULL, NULL, NULL, NULL);
+EXPLAIN (ANALYZE, COSTS OFF, TIMING OFF) EXECUTE user_by_email_after('user777777@example.com');
+
+EXPLAIN (ANALYZE, COSTS OFF, TIMING OFF) EXECUTE user_before(NULL, '00000777777', NULL, NULL, NULL);
+EXPLAIN (ANALYZE, COSTS OFF, TIMING OFF) EXECUTE user_by_cpf_after('00000777777');
+
+EXPLAIN (ANALYZE, COSTS OFF, TIMING OFF) EXECUTE user_before(NULL, NULL, 'f1c2a8', NULL, NULL);
+EXPLAIN (ANALYZE, COSTS OFF, TIMING OFF) EXECUTE user_by_name_after('%f1c2a8%');
+
+EXPLAIN (ANALYZE, COSTS OFF, TIMING OFF) EXECUTE product_before('f1c2a8', NULL, NULL);
+EXPLAIN (ANALYZE, COSTS OFF, TIMING OFF) EXECUTE product_by_name_after('%f1c2a8%');
+
+EXPLAIN (ANALYZE, COSTS OFF, TIMING OFF) EXECUTE product_before(NULL, 'UNIT', 'MEAT');
+EXPLAIN (ANALYZE, COSTS OFF, TIMING OFF) EXECUTE product_by_category_unit_after('MEAT', 'UNIT');
+
+DEALLOCATE ALL;
+RESET plan_cache_mode;
+RESET search_path;
+DROP SCHEMA filter_bench CASCADE;
@@ -0,0 +1,65 @@
+package com.restaurant.restaurantManagement.configuration;
+
+import com.restaurant.restaurantManagement.filters.PerformanceLoggingFilter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.Builder;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@RequiredArgsConstructor
+@Component
+@Endpoint(id = "latency")
+public class RouteLatencyEndpoint {
+
+    private final MeterRegistry meterRegistry;
+
+    @ReadOperation
+    public List<RouteLatency> routeLatencies() {
+        return meterRegistry.find(PerformanceLoggingFilter.ROUTE_LATENCY_METRIC).timers().stream()
+                .map(this::toRouteLatency)
+                .sorted(Comparator.comparingDouble(RouteLatency::p99).reversed())
+                .toList();
+    }
+
+    private RouteLatency toRouteLatency(Timer timer) {
+        var snapshot = timer.takeSnapshot();
+        var builder = RouteLatency.builder()
+                .method(timer.getId().getTag("method"))
+                .route(timer.getId().getTag("route"))
+                .status(timer.getId().getTag("status"))
+                .count(snapshot.count())
+                .mean(snapshot.mean(TimeUnit.MILLISECONDS))
+                .max(snapshot.max(TimeUnit.MILLISECONDS));
+        for (var percentile : snapshot.percentileValues()) {
+            var value = percentile.value(TimeUnit.MILLISECONDS);
+            if (percentile.percentile() == 0.5) {
+                builder.p50(value);
+            } else if (percentile.percentile() == 0.95) {
+                builder.p95(value);
+            } else if (percentile.percentile() == 0.99) {
+                builder.p99(value);
+            }
+        }
+        return builder.build();
+    }
+
+    @Builder
+    public record RouteLatency(
+            String method,
+            String route,
+            String status,
+            long count,
+            double mean,
+            double p50,
+            double p95,
+            double p99,
+            double max
+    ) {}
+}
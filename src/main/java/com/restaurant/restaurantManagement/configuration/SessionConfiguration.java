@@ -0,0 +1,63 @@
+package com.restaurant.restaurantManagement.configuration;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.session.MapSessionRepository;
+import org.springframework.session.Session;
+import org.springframework.session.config.annotation.web.http.EnableSpringHttpSession;
+
+import java.time.Duration;
+
+@Configuration
+public class SessionConfiguration {
+
+    public static final String SESSION_METRIC = "http.sessions";
+
+    @EnableSpringHttpSession
+    @Configuration
+    @ConditionalOnProperty(name = "session.store", havingValue = "memory", matchIfMissing = true)
+    public static class InMemorySessionConfiguration {
+
+        @Bean
+        public Cache<String, Session> httpSessions(@Value("${session.memory.max-sessions:10000}") long maxSessions,
+                                                   @Value("${server.servlet.session.timeout:15m}") Duration timeout,
+                                                   MeterRegistry meterRegistry) {
+            Cache<String, Session> sessions = Caffeine.newBuilder()
+                    .maximumSize(maxSessions)
+                    .expireAfterAccess(timeout)
+                    .recordStats()
+                    .build();
+            return CaffeineCacheMetrics.monitor(meterRegistry, sessions, SESSION_METRIC);
+        }
+
+        @Bean
+        public MapSessionRepository sessionRepository(Cache<String, Session> httpSessions,
+                                                      @Value("${server.servlet.session.timeout:15m}") Duration timeout) {
+            var repository = new MapSessionRepository(httpSessions.asMap());
+            repository.setDefaultMaxInactiveInterval(timeout);
+            return repository;
+        }
+    }
+
+    @Configuration
+    @ConditionalOnProperty(name = "session.store", havingValue = "jdbc")
+    public static class JdbcSessionMetricsConfiguration {
+
+        @Bean
+        public MeterBinder jdbcSessionMetrics(JdbcTemplate jdbcTemplate) {
+            return registry -> Gauge.builder(SESSION_METRIC + ".active",
+                            () -> jdbcTemplate.queryForObject("SELECT count(*) FROM spring_session", Long.class))
+                    .description("Sessions currently stored in spring_session")
+                    .register(registry);
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.restaurant.restaurantManagement.configuration;
+
+import com.restaurant.restaurantManagement.model.dto.inventory.StockDriftDTO;
+import com.restaurant.restaurantManagement.service.StockReconciliationService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+@RequiredArgsConstructor
+@Component
+@Endpoint(id = "stockreconciliation")
+public class StockReconciliationEndpoint {
+
+    private final StockReconciliationService stockReconciliationService;
+
+    @ReadOperation
+    public List<StockDriftDTO> stockDrift() {
+        return stockReconciliationService.findStockDrift();
+    }
+
+    @WriteOperation
+    public List<StockDriftDTO> rebuildFromLedger() {
+        return stockReconciliationService.rebuildFromLedger();
+    }
+}
@@ -0,0 +1,116 @@
+package com.restaurant.restaurantManagement.configuration.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.restaurant.restaurantManagement.events.UserChangedEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Supplier;
+
+@Component
+public class CredentialCache {
+
+    private static final String HMAC_ALGORITHM = "HmacSHA256";
+
+    private final Cache<Key, List<GrantedAuthority>> verifiedCredentials;
+    private final SecretKeySpec digestKey;
+    private final Counter hits;
+    private final Counter misses;
+
+    private long generation;
+
+    public CredentialCache(@Value("${security.credential-cache.ttl:5m}") Duration ttl,
+                           @Value("${security.credential-cache.max-size:10000}") long maxSize,
+                           MeterRegistry meterRegistry) {
+        this.verifiedCredentials = Caffeine.newBuilder()
+                .expireAfterWrite(ttl)
+                .maximumSize(maxSize)
+                .build();
+        var keyBytes = new byte[32];
+        new SecureRandom().nextBytes(keyBytes);
+        this.digestKey = new SecretKeySpec(keyBytes, HMAC_ALGORITHM);
+        this.hits = meterRegistry.counter("security.credential.cache", "result", "hit");
+        this.misses = meterRegistry.counter("security.credential.cache", "result", "miss");
+    }
+
+    public List<GrantedAuthority> verify(String username, String password,
+                                         Supplier<Collection<? extends GrantedAuthority>> verifier) {
+        var key = new Key(username, digest(username, password));
+        var cached = verifiedCredentials.getIfPresent(key);
+        if (cached != null) {
+            hits.increment();
+            return cached;
+        }
+
+        misses.increment();
+        long verifyingGeneration;
+        synchronized (this) {
+            verifyingGeneration = generation;
+        }
+        List<GrantedAuthority> authorities = List.copyOf(verifier.get());
+        synchronized (this) {
+            if (generation == verifyingGeneration) {
+                verifiedCredentials.put(key, authorities);
+            }
+        }
+        return authorities;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onUserChanged(UserChangedEvent event) {
+        invalidate();
+    }
+
+    public synchronized void invalidate() {
+        generation++;
+        verifiedCredentials.invalidateAll();
+    }
+
+    public long getHitCount() {
+        return (long) hits.count();
+    }
+
+    public long getMissCount() {
+        return (long) misses.count();
+    }
+
+    private byte[] digest(String username, String password) {
+        try {
+            var mac = Mac.getInstance(HMAC_ALGORITHM);
+            mac.init(digestKey);
+            mac.update(username.getBytes(StandardCharsets.UTF_8));
+            mac.update((byte) 0);
+            return mac.doFinal(password.getBytes(StandardCharsets.UTF_8));
+        } catch (GeneralSecurityException exception) {
+            throw new IllegalStateException("Unable to digest credentials", exception);
+        }
+    }
+
+    private record Key(String username, byte[] digest) {
+
+        @Override
+        public boolean equals(Object other) {
+            return other instanceof Key key && username.equals(key.username) && Arrays.equals(digest, key.digest);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * username.hashCode() + Arrays.hashCode(digest);
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.restaurant.restaurantManagement.configuration.security;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.time.Duration;
+
+@Slf4j
+final class PasswordStrengthCalibrator {
+
+    static final int MIN_STRENGTH = 10;
+    static final int MAX_STRENGTH = 16;
+
+    private static final String SAMPLE_PASSWORD = "calibration-sample";
+    private static final int SAMPLES = 3;
+
+    private PasswordStrengthCalibrator() {
+    }
+
+    static int calibrate(Duration targetVerifyTime) {
+        var encoder = new BCryptPasswordEncoder(MIN_STRENGTH);
+        var hash = encoder.encode(SAMPLE_PASSWORD);
+        long fastest = Long.MAX_VALUE;
+        for (int sample = 0; sample < SAMPLES; sample++) {
+            long start = System.nanoTime();
+            encoder.matches(SAMPLE_PASSWORD, hash);
+            fastest = Math.min(fastest, System.nanoTime() - start);
+        }
+
+        // each strength step doubles the BCrypt work
+        int strength = MIN_STRENGTH;
+        long estimate = fastest;
+        while (strength < MAX_STRENGTH && estimate * 2 <= targetVerifyTime.toNanos()) {
+            strength++;
+            estimate *= 2;
+        }
+        log.info("BCrypt strength calibrated to {} (~{} ms per verification, target {} ms)",
+                strength, Duration.ofNanos(estimate).toMillis(), targetVerifyTime.toMillis());
+        return strength;
+    }
+}
@@ -0,0 +1,75 @@
+package com.restaurant.restaurantManagement.configuration.security;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.authentication.AuthenticationServiceException;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+@Slf4j
+@Component
+public class PasswordVerifier {
+
+    private final PasswordEncoder passwordEncoder;
+    private final UserDetailsPasswordService userDetailsPasswordService;
+    private final ThreadPoolExecutor executor;
+
+    public PasswordVerifier(PasswordEncoder passwordEncoder,
+                            UserDetailsPasswordService userDetailsPasswordService,
+                            @Value("${security.password.verify-threads:0}") int threads,
+                            @Value("${security.password.verify-queue-capacity:64}") int queueCapacity) {
+        this.passwordEncoder = passwordEncoder;
+        this.userDetailsPasswordService = userDetailsPasswordService;
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), new CustomizableThreadFactory("password-hashing-"));
+    }
+
+    public boolean matches(String rawPassword, String encodedPassword) {
+        try {
+            return executor.submit(() -> passwordEncoder.matches(rawPassword, encodedPassword)).get();
+        } catch (RejectedExecutionException exception) {
+            throw new AuthenticationServiceException("Too many concurrent logins, try again later");
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            throw new AuthenticationServiceException("Password verification interrupted");
+        } catch (ExecutionException exception) {
+            throw new AuthenticationServiceException("Password verification failed", exception.getCause());
+        }
+    }
+
+    public void upgradeInBackground(UserDetails userDetails, String rawPassword) {
+        if (!passwordEncoder.upgradeEncoding(userDetails.getPassword())) {
+            return;
+        }
+        try {
+            executor.execute(() -> rehash(userDetails, rawPassword));
+        } catch (RejectedExecutionException exception) {
+            log.debug("Skipping password rehash for {}, verification pool is saturated", userDetails.getUsername());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    private void rehash(UserDetails userDetails, String rawPassword) {
+        try {
+            userDetailsPasswordService.updatePassword(userDetails, passwordEncoder.encode(rawPassword));
+            log.info("Password hash upgraded for the user: {}", userDetails.getUsername());
+        } catch (RuntimeException exception) {
+            log.warn("Password rehash failed for the user: {}", userDetails.getUsername(), exception);
+        }
+    }
+}
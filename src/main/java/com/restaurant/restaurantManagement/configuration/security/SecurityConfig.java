@@ -1,9 +1,13 @@
 package com.restaurant.restaurantManagement.configuration.security;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.restaurant.restaurantManagement.exception.CustomBasicAuthEntryPoint;
+import com.restaurant.restaurantManagement.filters.BearerTokenAuthenticationFilter;
 import com.restaurant.restaurantManagement.filters.PerformanceLoggingFilter;
 import com.restaurant.restaurantManagement.filters.RequestLoggingFilter;
+import com.restaurant.restaurantManagement.filters.SqlStatementBudgetFilter;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
@@ -11,42 +15,71 @@ import org.springframework.security.config.Customizer;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
+import org.springframework.security.web.authentication.www.BasicAuthenticationFilter;
+
+import java.time.Duration;
+import java.util.Map;
 
 @RequiredArgsConstructor
 @Configuration
 public class SecurityConfig {
 
+    private static final String BCRYPT = "bcrypt";
+
     private final RequestLoggingFilter requestLoggingFilter;
     private final PerformanceLoggingFilter performanceLoggingFilter;
+    private final SqlStatementBudgetFilter sqlStatementBudgetFilter;
+
+    @Bean
+    public PasswordEncoder passwordEncoder(@Value("${security.password.bcrypt-strength:0}") int configuredStrength,
+                                           @Value("${security.password.target-verify-time:250ms}") Duration targetVerifyTime) {
+        int strength = configuredStrength > 0 ? configuredStrength : PasswordStrengthCalibrator.calibrate(targetVerifyTime);
+        var bcrypt = new BCryptPasswordEncoder(strength);
+        var passwordEncoder = new DelegatingPasswordEncoder(BCRYPT, Map.of(BCRYPT, bcrypt));
+        passwordEncoder.setDefaultPasswordEncoderForMatches(bcrypt);
+        return passwordEncoder;
+    }
 
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public TokenService tokenService(@Value("${security.token.secret:}") String secret,
+                                     @Value("${security.token.access-ttl:15m}") Duration accessTtl,
+                                     @Value("${security.token.refresh-ttl:12h}") Duration refreshTtl,
+                                     ObjectMapper objectMapper) {
+        return new TokenService(secret, accessTtl, refreshTtl, objectMapper);
     }
 
     @Bean
-    SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
+    SecurityFilterChain securityFilterChain(HttpSecurity http, TokenService tokenService) throws Exception {
+        var authenticationEntryPoint = new CustomBasicAuthEntryPoint();
         http
                 .csrf(AbstractHttpConfigurer::disable)
                 .authorizeHttpRequests((requests) -> requests
                         .requestMatchers(HttpMethod.GET, "/swagger-ui/**", "/v3/api-docs/**", "/users", "/users/**").hasRole("OWNER")
                         .requestMatchers(HttpMethod.POST, "/users", "/users/**").hasRole("OWNER")
                         .requestMatchers(HttpMethod.PUT, "/users", "/users/**").hasAnyRole("OWNER")
+                        .requestMatchers(HttpMethod.GET, "/inventory-transactions/export").hasRole("OWNER")
                         .requestMatchers(HttpMethod.POST, "/products", "/products/**", "/inventories",
                                 "/inventories/**", "/inventory-transactions", "/inventory-transactions/**").hasAnyRole("OWNER", "EMPLOYEE")
                         .requestMatchers(HttpMethod.GET, "/products", "/products/**", "/inventories",
                                 "/inventories/**", "/inventory-transactions", "/inventory-transactions/**").hasAnyRole("EMPLOYEE", "OWNER")
                         .requestMatchers(HttpMethod.PUT, "/products", "/products/**").hasAnyRole("EMPLOYEE", "OWNER")
+                        .requestMatchers(HttpMethod.GET, "/actuator/**").hasRole("OWNER")
+                        .requestMatchers(HttpMethod.POST, "/actuator/**").hasRole("OWNER")
+                        .requestMatchers(HttpMethod.POST, "/auth/token").authenticated()
+                        .requestMatchers(HttpMethod.POST, "/auth/refresh").permitAll()
                         .requestMatchers("/login", "/system-error-reason").permitAll()
                 )
                 .addFilterBefore(requestLoggingFilter, UsernamePasswordAuthenticationFilter.class)
-                .addFilterBefore(performanceLoggingFilter, UsernamePasswordAuthenticationFilter.class);
+                .addFilterBefore(performanceLoggingFilter, UsernamePasswordAuthenticationFilter.class)
+                .addFilterBefore(sqlStatementBudgetFilter, UsernamePasswordAuthenticationFilter.class)
+                .addFilterBefore(new BearerTokenAuthenticationFilter(tokenService, authenticationEntryPoint), BasicAuthenticationFilter.class);
 
         http.formLogin(Customizer.withDefaults());
-        http.httpBasic(sbc -> sbc.authenticationEntryPoint(new CustomBasicAuthEntryPoint()));
+        http.httpBasic(sbc -> sbc.authenticationEntryPoint(authenticationEntryPoint));
         return http.build();
     }
 }
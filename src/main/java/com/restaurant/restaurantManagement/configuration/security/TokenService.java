@@ -0,0 +1,138 @@
+package com.restaurant.restaurantManagement.configuration.security;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.restaurant.restaurantManagement.exception.InvalidTokenException;
+import com.restaurant.restaurantManagement.model.dto.auth.TokenDTO;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.web.authentication.preauth.PreAuthenticatedAuthenticationToken;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.List;
+
+public class TokenService {
+
+    private static final String HMAC_ALGORITHM = "HmacSHA256";
+    private static final String TOKEN_TYPE = "Bearer";
+    private static final String ACCESS = "access";
+    private static final String REFRESH = "refresh";
+    private static final int MIN_SECRET_BYTES = 32;
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+    private static final String HEADER = ENCODER.encodeToString("{\"alg\":\"HS256\",\"typ\":\"JWT\"}".getBytes(StandardCharsets.UTF_8));
+
+    private final SecretKeySpec signingKey;
+    private final Duration accessTtl;
+    private final Duration refreshTtl;
+    private final ObjectMapper objectMapper;
+
+    public TokenService(String secret, Duration accessTtl, Duration refreshTtl, ObjectMapper objectMapper) {
+        this.signingKey = new SecretKeySpec(resolveSecret(secret), HMAC_ALGORITHM);
+        this.accessTtl = accessTtl;
+        this.refreshTtl = refreshTtl;
+        this.objectMapper = objectMapper;
+    }
+
+    public TokenDTO issueTokens(String username, Collection<? extends GrantedAuthority> authorities, long tokenVersion) {
+        var roles = authorities.stream().map(GrantedAuthority::getAuthority).toList();
+        var now = Instant.now().getEpochSecond();
+        return TokenDTO.builder()
+                .accessToken(sign(new Claims(username, ACCESS, roles, tokenVersion, now, now + accessTtl.toSeconds())))
+                .refreshToken(sign(new Claims(username, REFRESH, List.of(), tokenVersion, now, now + refreshTtl.toSeconds())))
+                .tokenType(TOKEN_TYPE)
+                .expiresIn(accessTtl.toSeconds())
+                .build();
+    }
+
+    public Authentication authenticate(String accessToken) {
+        var claims = verify(accessToken, ACCESS);
+        var authorities = claims.roles().stream().map(SimpleGrantedAuthority::new).toList();
+        return new PreAuthenticatedAuthenticationToken(claims.sub(), accessToken, authorities);
+    }
+
+    public RefreshToken verifyRefreshToken(String refreshToken) {
+        var claims = verify(refreshToken, REFRESH);
+        return new RefreshToken(claims.sub(), claims.ver());
+    }
+
+    private String sign(Claims claims) {
+        try {
+            var unsigned = HEADER + "." + ENCODER.encodeToString(objectMapper.writeValueAsBytes(claims));
+            return unsigned + "." + ENCODER.encodeToString(hmac(unsigned));
+        } catch (IOException exception) {
+            throw new IllegalStateException("Unable to serialize token claims", exception);
+        }
+    }
+
+    private Claims verify(String token, String expectedType) {
+        var parts = token == null ? new String[0] : token.split("\\.");
+        if (parts.length != 3 || !HEADER.equals(parts[0])) {
+            throw new InvalidTokenException("Malformed token");
+        }
+
+        Claims claims;
+        try {
+            var signature = DECODER.decode(parts[2]);
+            if (!MessageDigest.isEqual(signature, hmac(parts[0] + "." + parts[1]))) {
+                throw new InvalidTokenException("Invalid token signature");
+            }
+            claims = objectMapper.readValue(DECODER.decode(parts[1]), Claims.class);
+        } catch (IllegalArgumentException | IOException exception) {
+            throw new InvalidTokenException("Malformed token");
+        }
+
+        if (!expectedType.equals(claims.typ())) {
+            throw new InvalidTokenException("Expected a " + expectedType + " token");
+        }
+        if (claims.exp() <= Instant.now().getEpochSecond()) {
+            throw new InvalidTokenException("Token expired");
+        }
+        return claims;
+    }
+
+    private byte[] hmac(String content) {
+        try {
+            var mac = Mac.getInstance(HMAC_ALGORITHM);
+            mac.init(signingKey);
+            return mac.doFinal(content.getBytes(StandardCharsets.US_ASCII));
+        } catch (GeneralSecurityException exception) {
+            throw new IllegalStateException("Unable to sign token", exception);
+        }
+    }
+
+    private static byte[] resolveSecret(String secret) {
+        if (secret == null || secret.isBlank()) {
+            throw new IllegalStateException("security.token.secret must be configured with a base64 key of at least "
+                    + MIN_SECRET_BYTES + " bytes, shared by every node");
+        }
+        var decoded = Base64.getDecoder().decode(secret);
+        if (decoded.length < MIN_SECRET_BYTES) {
+            throw new IllegalStateException("security.token.secret must be at least " + MIN_SECRET_BYTES + " bytes");
+        }
+        return decoded;
+    }
+
+    public record RefreshToken(
+            String username,
+            long tokenVersion
+    ) {}
+
+    private record Claims(
+            String sub,
+            String typ,
+            List<String> roles,
+            long ver,
+            long iat,
+            long exp
+    ) {}
+}
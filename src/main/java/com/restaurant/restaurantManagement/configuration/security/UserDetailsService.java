@@ -5,14 +5,16 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.User;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 
 @RequiredArgsConstructor
 @Component
-public class UserDetailsService implements org.springframework.security.core.userdetails.UserDetailsService {
+public class UserDetailsService implements org.springframework.security.core.userdetails.UserDetailsService, UserDetailsPasswordService {
 
     private final UserRepository userRepository;
 
@@ -26,4 +28,17 @@ public class UserDetailsService implements org.springframework.security.core.use
 
         return new User(user.getEmail(), user.getPassword(), authorities);
     }
+
+    @Override
+    @Transactional
+    public UserDetails updatePassword(UserDetails userDetails, String newPassword) {
+        var user = userRepository.findByEmail(userDetails.getUsername())
+                .orElseThrow(() -> new UsernameNotFoundException("User not found: " + userDetails.getUsername()));
+        // a password changed since the login was verified wins over the rehash
+        if (!user.getPassword().equals(userDetails.getPassword())) {
+            return userDetails;
+        }
+        user.setPassword(newPassword);
+        return User.withUserDetails(userDetails).password(newPassword).build();
+    }
 }
@@ -7,7 +7,6 @@ import org.springframework.security.authentication.UsernamePasswordAuthenticatio
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.AuthenticationException;
 import org.springframework.security.core.userdetails.UserDetails;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Component;
 
 @RequiredArgsConstructor
@@ -15,19 +14,22 @@ import org.springframework.stereotype.Component;
 public class UsernamePasswordAuthProvider implements AuthenticationProvider {
 
     private final UserDetailsService userDetailsService;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordVerifier passwordVerifier;
+    private final CredentialCache credentialCache;
 
     @Override
     public Authentication authenticate(Authentication authentication) throws AuthenticationException {
         String username = authentication.getName();
         String password = authentication.getCredentials().toString();
-        UserDetails userDetails = userDetailsService.loadUserByUsername(username);
-
-        if (passwordEncoder.matches(password, userDetails.getPassword())) {
-            return UsernamePasswordAuthenticationToken.authenticated(username, password, userDetails.getAuthorities());
-        } else {
-            throw new BadCredentialsException("Invalid Password");
-        }
+        var authorities = credentialCache.verify(username, password, () -> {
+            UserDetails userDetails = userDetailsService.loadUserByUsername(username);
+            if (!passwordVerifier.matches(password, userDetails.getPassword())) {
+                throw new BadCredentialsException("Invalid Password");
+            }
+            passwordVerifier.upgradeInBackground(userDetails, password);
+            return userDetails.getAuthorities();
+        });
+        return UsernamePasswordAuthenticationToken.authenticated(username, password, authorities);
     }
 
     @Override
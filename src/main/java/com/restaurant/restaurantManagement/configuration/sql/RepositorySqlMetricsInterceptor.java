@@ -0,0 +1,38 @@
+package com.restaurant.restaurantManagement.configuration.sql;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.beans.factory.ObjectProvider;
+
+class RepositorySqlMetricsInterceptor implements MethodInterceptor {
+
+    private final ObjectProvider<MeterRegistry> meterRegistry;
+    private final String repository;
+
+    RepositorySqlMetricsInterceptor(ObjectProvider<MeterRegistry> meterRegistry, Class<?> repositoryInterface) {
+        this.meterRegistry = meterRegistry;
+        this.repository = repositoryInterface.getSimpleName();
+    }
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        var scope = SqlStatementRecorder.open();
+        try {
+            return invocation.proceed();
+        } finally {
+            scope.close();
+            meterRegistry.ifAvailable(registry -> record(registry, invocation.getMethod().getName(), scope.statistics()));
+        }
+    }
+
+    private void record(MeterRegistry registry, String method, SqlStatistics statistics) {
+        var tags = Tags.of("repository", repository, "method", method);
+        DistributionSummary.builder("repository.sql.statements").tags(tags).register(registry).record(statistics.statements());
+        DistributionSummary.builder("repository.sql.rows").tags(tags).register(registry).record(statistics.rows());
+        Timer.builder("repository.sql.time").tags(tags).register(registry).record(statistics.time());
+    }
+}
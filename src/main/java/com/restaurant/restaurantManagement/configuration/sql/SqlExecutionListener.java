@@ -0,0 +1,39 @@
+package com.restaurant.restaurantManagement.configuration.sql;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.MethodExecutionContext;
+import net.ttddyy.dsproxy.listener.MethodExecutionListener;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+
+import java.sql.ResultSet;
+import java.util.List;
+
+class SqlExecutionListener implements QueryExecutionListener, MethodExecutionListener {
+
+    private static final String STARTED_AT = "sqlStartedAt";
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        execInfo.addCustomValue(STARTED_AT, System.nanoTime());
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        var startedAt = execInfo.getCustomValue(STARTED_AT, Long.class);
+        SqlStatementRecorder.recordStatement(startedAt != null ? System.nanoTime() - startedAt : 0);
+    }
+
+    @Override
+    public void beforeMethod(MethodExecutionContext executionContext) {
+    }
+
+    @Override
+    public void afterMethod(MethodExecutionContext executionContext) {
+        if (executionContext.getTarget() instanceof ResultSet
+                && "next".equals(executionContext.getMethod().getName())
+                && Boolean.TRUE.equals(executionContext.getResult())) {
+            SqlStatementRecorder.recordRow();
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package com.restaurant.restaurantManagement.configuration.sql;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.repository.core.support.RepositoryFactoryBeanSupport;
+
+import javax.sql.DataSource;
+
+@Configuration
+public class SqlInstrumentationConfiguration {
+
+    @Bean
+    public static BeanPostProcessor sqlInstrumentationPostProcessor(ObjectProvider<MeterRegistry> meterRegistry) {
+        var listener = new SqlExecutionListener();
+        return new BeanPostProcessor() {
+
+            @Override
+            public Object postProcessBeforeInitialization(Object bean, String beanName) {
+                if (bean instanceof RepositoryFactoryBeanSupport<?, ?, ?> repositoryFactoryBean) {
+                    repositoryFactoryBean.addRepositoryFactoryCustomizer(factory -> factory.addRepositoryProxyPostProcessor(
+                            (proxyFactory, repositoryInformation) -> proxyFactory.addAdvice(
+                                    new RepositorySqlMetricsInterceptor(meterRegistry, repositoryInformation.getRepositoryInterface()))));
+                }
+                return bean;
+            }
+
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && !(bean instanceof ProxyDataSource)) {
+                    return ProxyDataSourceBuilder.create(beanName, dataSource)
+                            .listener(listener)
+                            .methodListener(listener)
+                            .proxyResultSet()
+                            .build();
+                }
+                return bean;
+            }
+        };
+    }
+}
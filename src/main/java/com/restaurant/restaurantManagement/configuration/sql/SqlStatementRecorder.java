@@ -0,0 +1,73 @@
+package com.restaurant.restaurantManagement.configuration.sql;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+/**
+ * Collects the SQL executed on the current thread into every open scope, so a request scope and the
+ * repository method scopes nested inside it each see their own totals.
+ */
+public final class SqlStatementRecorder {
+
+    private static final ThreadLocal<Deque<SqlStatistics>> SCOPES = new ThreadLocal<>();
+
+    private SqlStatementRecorder() {
+    }
+
+    public static Scope open() {
+        var scopes = SCOPES.get();
+        if (scopes == null) {
+            scopes = new ArrayDeque<>();
+            SCOPES.set(scopes);
+        }
+        var statistics = new SqlStatistics();
+        scopes.push(statistics);
+        return new Scope(statistics);
+    }
+
+    public static SqlStatistics record(Runnable action) {
+        try (var scope = open()) {
+            action.run();
+            return scope.statistics();
+        }
+    }
+
+    static void recordStatement(long elapsedNanos) {
+        var scopes = SCOPES.get();
+        if (scopes != null) {
+            scopes.forEach(statistics -> statistics.recordStatement(elapsedNanos));
+        }
+    }
+
+    static void recordRow() {
+        var scopes = SCOPES.get();
+        if (scopes != null) {
+            scopes.forEach(SqlStatistics::recordRow);
+        }
+    }
+
+    public static final class Scope implements AutoCloseable {
+
+        private final SqlStatistics statistics;
+
+        private Scope(SqlStatistics statistics) {
+            this.statistics = statistics;
+        }
+
+        public SqlStatistics statistics() {
+            return statistics;
+        }
+
+        @Override
+        public void close() {
+            var scopes = SCOPES.get();
+            if (scopes == null) {
+                return;
+            }
+            scopes.remove(statistics);
+            if (scopes.isEmpty()) {
+                SCOPES.remove();
+            }
+        }
+    }
+}
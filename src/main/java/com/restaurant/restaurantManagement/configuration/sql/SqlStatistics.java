@@ -0,0 +1,39 @@
+package com.restaurant.restaurantManagement.configuration.sql;
+
+import java.time.Duration;
+
+public final class SqlStatistics {
+
+    private long statements;
+    private long rows;
+    private long nanos;
+
+    SqlStatistics() {
+    }
+
+    void recordStatement(long elapsedNanos) {
+        statements++;
+        nanos += elapsedNanos;
+    }
+
+    void recordRow() {
+        rows++;
+    }
+
+    public long statements() {
+        return statements;
+    }
+
+    public long rows() {
+        return rows;
+    }
+
+    public Duration time() {
+        return Duration.ofNanos(nanos);
+    }
+
+    @Override
+    public String toString() {
+        return statements + " statements, " + rows + " rows, " + time().toMillis() + " ms";
+    }
+}
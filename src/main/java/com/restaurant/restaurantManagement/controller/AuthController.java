@@ -0,0 +1,48 @@
+package com.restaurant.restaurantManagement.controller;
+
+import com.restaurant.restaurantManagement.model.dto.auth.RefreshTokenDTO;
+import com.restaurant.restaurantManagement.model.dto.auth.TokenDTO;
+import com.restaurant.restaurantManagement.service.AuthService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/auth")
+public class AuthController {
+
+    private final AuthService authService;
+
+    @Operation(
+            summary = "Exchanges username and password credentials for a signed access and refresh token pair",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Operation successful"),
+                    @ApiResponse(responseCode = "401", description = "Invalid credentials"),
+                    @ApiResponse(responseCode = "403", description = "Authenticated with a token instead of credentials")
+            }
+    )
+    @PostMapping("/token")
+    public ResponseEntity<TokenDTO> issueTokens(Authentication authentication) {
+        return ResponseEntity.ok(authService.issueTokens(authentication));
+    }
+
+    @Operation(
+            summary = "Issues a new token pair from a valid refresh token",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Operation successful"),
+                    @ApiResponse(responseCode = "401", description = "Invalid or expired refresh token")
+            }
+    )
+    @PostMapping("/refresh")
+    public ResponseEntity<TokenDTO> refreshTokens(@Valid @RequestBody RefreshTokenDTO refreshTokenDTO) {
+        return ResponseEntity.ok(authService.refreshTokens(refreshTokenDTO.refreshToken()));
+    }
+}
@@ -2,16 +2,23 @@ package com.restaurant.restaurantManagement.controller;
 
 
 import com.restaurant.restaurantManagement.enums.ProductCategory;
+import com.restaurant.restaurantManagement.model.dto.inventory.ConsumptionForecastDTO;
 import com.restaurant.restaurantManagement.model.dto.inventory.GetInventoryDTO;
+import com.restaurant.restaurantManagement.model.dto.inventory.LedgerStockDTO;
 import com.restaurant.restaurantManagement.model.dto.product.UpdateStockDTO;
+import com.restaurant.restaurantManagement.service.ConsumptionForecastService;
 import com.restaurant.restaurantManagement.service.InventoryService;
 import com.restaurant.restaurantManagement.service.ProductService;
+import com.restaurant.restaurantManagement.service.StockSnapshotService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @RequiredArgsConstructor
@@ -21,6 +28,8 @@ public class InventoryController {
 
     private final InventoryService inventoryService;
     private final ProductService productService;
+    private final StockSnapshotService stockSnapshotService;
+    private final ConsumptionForecastService consumptionForecastService;
 
     @Operation(
             summary = "Finds a inventory that matches the product name provided",
@@ -35,6 +44,51 @@ public class InventoryController {
         return ResponseEntity.ok(inventory);
     }
 
+    @Operation(
+            summary = "Computes the stock of the informed product from the transaction ledger, now or at a past date",
+            description = "Dates before the partition retention window are rejected, their transactions are archived",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Operation successful"),
+                    @ApiResponse(responseCode = "400", description = "Date older than the retained ledger"),
+                    @ApiResponse(responseCode = "404", description = "Product not found")
+            }
+    )
+    @GetMapping("/{productName}/ledger-stock")
+    public ResponseEntity<LedgerStockDTO> getLedgerStockByProductName(
+            @PathVariable String productName,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime at) {
+        var product = productService.getProductByName(productName);
+        return ResponseEntity.ok(stockSnapshotService.getLedgerStock(product, at));
+    }
+
+    @Operation(
+            summary = "Returns the smoothed daily consumption, days of cover and suggested minimum stock of the informed product",
+            description = "The forecast is refreshed in the background from the daily consumption rollup, up to the last closed day",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Operation successful"),
+                    @ApiResponse(responseCode = "404", description = "Product not found")
+            }
+    )
+    @GetMapping("/{productName}/forecast")
+    public ResponseEntity<ConsumptionForecastDTO> getForecastByProductName(@PathVariable String productName) {
+        var product = productService.getProductByName(productName);
+        return ResponseEntity.ok(consumptionForecastService.getForecast(product));
+    }
+
+    @Operation(
+            summary = "Replaces the minimum stock of the informed product with the one suggested by its consumption forecast",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Operation successful"),
+                    @ApiResponse(responseCode = "404", description = "Product not found"),
+                    @ApiResponse(responseCode = "400", description = "The product has no forecast yet")
+            }
+    )
+    @PostMapping("/{productName}/forecast/apply")
+    public ResponseEntity<ConsumptionForecastDTO> applyForecastByProductName(@PathVariable String productName) {
+        var product = productService.getProductByName(productName);
+        return ResponseEntity.ok(consumptionForecastService.applySuggestedMinimum(product));
+    }
+
     @Operation(
             summary = "Returns a list with all existing inventories that match the informed product category",
             responses = {
@@ -70,10 +124,10 @@ public class InventoryController {
             }
     )
     @PostMapping("/{productName}/inbound")
-    public ResponseEntity<GetInventoryDTO> increaseStockByProductName(@PathVariable String productName, @RequestBody UpdateStockDTO quantityDTO) {
+    public ResponseEntity<GetInventoryDTO> increaseStockByProductName(@PathVariable String productName, @RequestBody UpdateStockDTO quantityDTO,
+                                                                    Authentication authentication) {
         var product = productService.getProductByName(productName);
-        inventoryService.increaseStock(product, quantityDTO.quantity());
-        var updatedInventory = inventoryService.getInventoryByProductName(productName);
+        var updatedInventory = inventoryService.increaseStock(product, quantityDTO.quantity(), authentication.getName());
         return ResponseEntity.ok(updatedInventory);
     }
 
@@ -86,10 +140,10 @@ public class InventoryController {
             }
     )
     @PostMapping("/{productName}/outbound")
-    public ResponseEntity<GetInventoryDTO> decreaseStockByProductName(@PathVariable String productName, @RequestBody UpdateStockDTO quantityDTO) {
+    public ResponseEntity<GetInventoryDTO> decreaseStockByProductName(@PathVariable String productName, @RequestBody UpdateStockDTO quantityDTO,
+                                                                    Authentication authentication) {
         var product = productService.getProductByName(productName);
-        inventoryService.decreaseStock(product, quantityDTO.quantity());
-        var updatedInventory = inventoryService.getInventoryByProductName(productName);
+        var updatedInventory = inventoryService.decreaseStock(product, quantityDTO.quantity(), authentication.getName());
         return ResponseEntity.ok(updatedInventory);
     }
 
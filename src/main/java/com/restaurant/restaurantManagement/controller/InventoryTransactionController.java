@@ -1,17 +1,33 @@
 package com.restaurant.restaurantManagement.controller;
 
+import com.restaurant.restaurantManagement.enums.BatchTransactionMode;
+import com.restaurant.restaurantManagement.enums.ExportFormat;
+import com.restaurant.restaurantManagement.enums.TransactionMotivation;
+import com.restaurant.restaurantManagement.model.dto.inventoryTransaction.BatchTransactionResultDTO;
+import com.restaurant.restaurantManagement.model.dto.inventoryTransaction.ConsumptionSummaryDTO;
+import com.restaurant.restaurantManagement.model.dto.inventoryTransaction.DailyConsumptionDTO;
 import com.restaurant.restaurantManagement.model.dto.inventoryTransaction.GetInventoryTransactionDTO;
+import com.restaurant.restaurantManagement.model.dto.inventoryTransaction.TransactionPageDTO;
+import com.restaurant.restaurantManagement.service.ConsumptionRollupService;
 import com.restaurant.restaurantManagement.service.InventoryTransactionService;
+import com.restaurant.restaurantManagement.service.TransactionExportService;
 import io.swagger.v3.oas.annotations.Operation;
-import io.swagger.v3.oas.annotations.parameters.RequestBody;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
 import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 
 @RestController
@@ -20,6 +36,8 @@ import java.util.List;
 public class InventoryTransactionController {
 
     private final InventoryTransactionService inventoryTransactionService;
+    private final TransactionExportService transactionExportService;
+    private final ConsumptionRollupService consumptionRollupService;
 
     @Operation(
             summary = "Creates a new inventory transaction",
@@ -36,28 +54,113 @@ public class InventoryTransactionController {
     }
 
     @Operation(
-            summary = "Returns a list with all existing inventory transactions that match the informed product id",
+            summary = "Registers a list of inventory transactions in a single database transaction",
+            description = "Lines are applied in order, so an outbound line can't use stock from a later inbound line. "
+                    + "ALL_OR_NOTHING rejects the whole batch on the first invalid line; PER_LINE registers every valid line and reports the others",
             responses = {
                     @ApiResponse(responseCode = "200", description = "Operation successful"),
-                    @ApiResponse(responseCode = "204", description = "No content to show")
+                    @ApiResponse(responseCode = "400", description = "Invalid data")
+            }
+    )
+    @PostMapping("/batch")
+    public ResponseEntity<BatchTransactionResultDTO> registerTransactions(@RequestBody List<GetInventoryTransactionDTO> transactionDTOs,
+                                                                          @RequestParam(defaultValue = "ALL_OR_NOTHING") BatchTransactionMode mode) {
+        return ResponseEntity.ok(inventoryTransactionService.registerTransactions(transactionDTOs, mode));
+    }
+
+    @Operation(
+            summary = "Returns a page of the inventory transactions that match the informed product id, newest first",
+            description = "Use the nextCursor of a page as the cursor parameter to fetch the following one; from is inclusive and to is exclusive",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Operation successful"),
+                    @ApiResponse(responseCode = "204", description = "No content to show"),
+                    @ApiResponse(responseCode = "400", description = "Invalid page size, date range or cursor")
             }
     )
     @GetMapping("/product/{productId}")
-    public ResponseEntity<List<GetInventoryTransactionDTO>> getTransactionByProductId(@PathVariable Long productId) {
-        var transactions = inventoryTransactionService.getTransactionsByProductId(productId);
-        return transactions.isEmpty() ? ResponseEntity.noContent().build() : ResponseEntity.ok(transactions);
+    public ResponseEntity<TransactionPageDTO> getTransactionByProductId(@PathVariable Long productId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int size) {
+        var page = inventoryTransactionService.getTransactionsByProductId(productId, from, to, cursor, size);
+        return page.content().isEmpty() ? ResponseEntity.noContent().build() : ResponseEntity.ok(page);
     }
 
     @Operation(
-            summary = "Returns a list with all existing inventory transactions that match the informed responsible id",
+            summary = "Returns a page of the inventory transactions that match the informed responsible id, newest first",
+            description = "Use the nextCursor of a page as the cursor parameter to fetch the following one; from is inclusive and to is exclusive",
             responses = {
                     @ApiResponse(responseCode = "200", description = "Operation successful"),
-                    @ApiResponse(responseCode = "204", description = "No content to show")
+                    @ApiResponse(responseCode = "204", description = "No content to show"),
+                    @ApiResponse(responseCode = "400", description = "Invalid page size, date range or cursor")
             }
     )
     @GetMapping("/responsible/{responsibleId}")
-    public ResponseEntity<List<GetInventoryTransactionDTO>> getTransactionsByResponsibleId(@PathVariable Long responsibleId) {
-        var transactions = inventoryTransactionService.getTransactionsByResponsibleId(responsibleId);
-        return transactions.isEmpty() ? ResponseEntity.noContent().build() : ResponseEntity.ok(transactions);
+    public ResponseEntity<TransactionPageDTO> getTransactionsByResponsibleId(@PathVariable Long responsibleId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int size) {
+        var page = inventoryTransactionService.getTransactionsByResponsibleId(responsibleId, from, to, cursor, size);
+        return page.content().isEmpty() ? ResponseEntity.noContent().build() : ResponseEntity.ok(page);
+    }
+
+    @Operation(
+            summary = "Streams every inventory transaction in the informed period as CSV or newline-delimited JSON, oldest first",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Operation successful"),
+                    @ApiResponse(responseCode = "400", description = "Invalid date range")
+            }
+    )
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportTransactions(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(defaultValue = "CSV") ExportFormat format) {
+        transactionExportService.validateRange(from, to);
+        var mediaType = format == ExportFormat.CSV ? new MediaType("text", "csv", StandardCharsets.UTF_8) : MediaType.APPLICATION_NDJSON;
+        var fileName = "inventory-transactions." + (format == ExportFormat.CSV ? "csv" : "ndjson");
+        StreamingResponseBody body = outputStream -> transactionExportService.exportTransactions(from, to, format, outputStream);
+        return ResponseEntity.ok()
+                .contentType(mediaType)
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment().filename(fileName).build().toString())
+                .body(body);
+    }
+
+    @Operation(
+            summary = "Returns the outbound quantity and value per day and motivation of the informed product",
+            description = "Both dates are inclusive; without them the last 30 days are returned",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Operation successful"),
+                    @ApiResponse(responseCode = "204", description = "No content to show"),
+                    @ApiResponse(responseCode = "400", description = "Invalid date range")
+            }
+    )
+    @GetMapping("/consumption/product/{productId}")
+    public ResponseEntity<List<DailyConsumptionDTO>> getDailyConsumption(@PathVariable Long productId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(required = false) TransactionMotivation motivation) {
+        var days = consumptionRollupService.getDailyConsumption(productId, from, to, motivation);
+        return days.isEmpty() ? ResponseEntity.noContent().build() : ResponseEntity.ok(days);
+    }
+
+    @Operation(
+            summary = "Returns the outbound quantity and value of every product per motivation in the informed period",
+            description = "Both dates are inclusive; without them the last 30 days are summarized",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Operation successful"),
+                    @ApiResponse(responseCode = "204", description = "No content to show"),
+                    @ApiResponse(responseCode = "400", description = "Invalid date range")
+            }
+    )
+    @GetMapping("/consumption")
+    public ResponseEntity<List<ConsumptionSummaryDTO>> getConsumptionSummary(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(required = false) TransactionMotivation motivation) {
+        var summary = consumptionRollupService.getConsumptionSummary(from, to, motivation);
+        return summary.isEmpty() ? ResponseEntity.noContent().build() : ResponseEntity.ok(summary);
     }
 }
@@ -1,15 +1,21 @@
 package com.restaurant.restaurantManagement.controller;
 
 import com.restaurant.restaurantManagement.enums.MeasurementUnit;
+import com.restaurant.restaurantManagement.enums.PaginationMode;
 import com.restaurant.restaurantManagement.enums.ProductCategory;
+import com.restaurant.restaurantManagement.enums.ProductSearchMode;
 import com.restaurant.restaurantManagement.model.dto.product.CreateProductDTO;
 import com.restaurant.restaurantManagement.model.dto.product.GetProductDTO;
+import com.restaurant.restaurantManagement.model.dto.product.ProductNameDTO;
+import com.restaurant.restaurantManagement.model.dto.product.ProductPageDTO;
 import com.restaurant.restaurantManagement.model.dto.product.UpdateProductDTO;
 import com.restaurant.restaurantManagement.service.ProductService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.web.PageableDefault;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -27,16 +33,23 @@ public class ProductController {
     private final ProductService productService;
 
     @Operation(
-            summary = "Returns a list with all existing products",
+            summary = "Returns a page of products",
+            description = "OFFSET mode accepts page, size and sort (id, name, category, measurementUnit, price, minQuantityOnStock); "
+                    + "KEYSET mode orders by name and continues from the nextCursor of the previous page",
             responses = {
                     @ApiResponse(responseCode = "200", description = "Operation successful"),
-                    @ApiResponse(responseCode = "204", description = "No content to show")
+                    @ApiResponse(responseCode = "204", description = "No content to show"),
+                    @ApiResponse(responseCode = "400", description = "Invalid sort, page size or cursor")
             }
     )
     @GetMapping
-    public ResponseEntity<List<GetProductDTO>> getAllProducts() {
-        var products = productService.getAllProducts();
-        return products.isEmpty() ? ResponseEntity.noContent().build() : ResponseEntity.ok(products);
+    public ResponseEntity<ProductPageDTO> getAllProducts(@RequestParam(defaultValue = "OFFSET") PaginationMode mode,
+                                                         @RequestParam(required = false) String cursor,
+                                                         @PageableDefault(size = 50, sort = "name") Pageable pageable) {
+        var products = mode == PaginationMode.KEYSET
+                ? productService.getProductsAfter(cursor, pageable.getPageSize())
+                : productService.getAllProducts(pageable);
+        return products.content().isEmpty() ? ResponseEntity.noContent().build() : ResponseEntity.ok(products);
     }
 
     @Operation(
@@ -95,17 +108,38 @@ public class ProductController {
 
     @Operation(
             summary = "Finds a list of products matching the informed params",
+            description = "RANKED mode also matches misspelled names, lists prefix matches first and returns at most limit products",
             responses = {
                     @ApiResponse(responseCode = "200", description = "Operation successful"),
-                    @ApiResponse(responseCode = "204", description = "No content to show")
+                    @ApiResponse(responseCode = "204", description = "No content to show"),
+                    @ApiResponse(responseCode = "400", description = "Missing name or invalid limit in ranked mode")
             }
     )
     @GetMapping("/search")
     public ResponseEntity<List<GetProductDTO>> getProductsByFilter(@RequestParam(required = false) String name,
                                                                    @RequestParam(required = false) ProductCategory category,
-                                                                   @RequestParam(required = false) MeasurementUnit measurementUnit) {
+                                                                   @RequestParam(required = false) MeasurementUnit measurementUnit,
+                                                                   @RequestParam(defaultValue = "CONTAINS") ProductSearchMode mode,
+                                                                   @RequestParam(defaultValue = "20") int limit) {
 
-        var products = productService.searchProductsByFilter(name, category, measurementUnit);
+        var products = mode == ProductSearchMode.RANKED
+                ? productService.searchProductsRanked(name, category, measurementUnit, limit)
+                : productService.searchProductsByFilter(name, category, measurementUnit);
         return products.isEmpty() ? ResponseEntity.noContent().build() : ResponseEntity.ok(products);
     }
+
+    @Operation(
+            summary = "Suggests product names starting with the informed prefix, ignoring case and accents",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Operation successful"),
+                    @ApiResponse(responseCode = "204", description = "No content to show"),
+                    @ApiResponse(responseCode = "400", description = "Invalid limit")
+            }
+    )
+    @GetMapping("/typeahead")
+    public ResponseEntity<List<ProductNameDTO>> suggestProductNames(@RequestParam String prefix,
+                                                                    @RequestParam(defaultValue = "10") int limit) {
+        var suggestions = productService.suggestProductNames(prefix, limit);
+        return suggestions.isEmpty() ? ResponseEntity.noContent().build() : ResponseEntity.ok(suggestions);
+    }
 }
@@ -0,0 +1,6 @@
+package com.restaurant.restaurantManagement.enums;
+
+public enum BatchTransactionMode {
+    ALL_OR_NOTHING,
+    PER_LINE
+}
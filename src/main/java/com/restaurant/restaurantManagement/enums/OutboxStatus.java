@@ -0,0 +1,7 @@
+package com.restaurant.restaurantManagement.enums;
+
+public enum OutboxStatus {
+    PENDING,
+    DELIVERED,
+    FAILED
+}
@@ -0,0 +1,6 @@
+package com.restaurant.restaurantManagement.enums;
+
+public enum PaginationMode {
+    OFFSET,
+    KEYSET
+}
@@ -0,0 +1,6 @@
+package com.restaurant.restaurantManagement.enums;
+
+public enum StockAlertStatus {
+    ARMED,
+    FIRED
+}
@@ -7,7 +7,9 @@ public enum TransactionMotivation {
     CONSUMPTION,
     WASTE,
     SPILLAGE,
-    THEFT;
+    THEFT,
+    OPENING_BALANCE,
+    ADJUSTMENT;
 
     public TransactionMotivation parseTransactionMotivation(String motivation) {
         try {
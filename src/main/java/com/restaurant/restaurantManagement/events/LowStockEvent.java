@@ -0,0 +1,8 @@
+package com.restaurant.restaurantManagement.events;
+
+public record LowStockEvent(
+        Long productId,
+        String productName,
+        Long currentStock,
+        Long minQuantityOnStock
+) {}
@@ -0,0 +1,10 @@
+package com.restaurant.restaurantManagement.events;
+
+public record ProductChangedEvent(
+        Long productId,
+        String name
+) {
+    public static ProductChangedEvent deleted(Long productId) {
+        return new ProductChangedEvent(productId, null);
+    }
+}
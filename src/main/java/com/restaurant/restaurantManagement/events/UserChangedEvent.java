@@ -0,0 +1,5 @@
+package com.restaurant.restaurantManagement.events;
+
+public record UserChangedEvent(
+        Long userId
+) {}
@@ -45,4 +45,13 @@ public class GlobalExceptionHandler {
         error.setTimestamp(LocalDateTime.now().toString());
         return new ResponseEntity<>(error, HttpStatus.BAD_REQUEST);
     }
+
+    @ExceptionHandler(InvalidTokenException.class)
+    public ResponseEntity<ErrorResponse> handleInvalidTokenException(InvalidTokenException exception) {
+        var error = new ErrorResponse();
+        error.setStatus(HttpStatus.UNAUTHORIZED.value());
+        error.setMessage(exception.getMessage());
+        error.setTimestamp(LocalDateTime.now().toString());
+        return new ResponseEntity<>(error, HttpStatus.UNAUTHORIZED);
+    }
 }
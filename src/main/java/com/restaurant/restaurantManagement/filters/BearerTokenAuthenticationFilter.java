@@ -0,0 +1,47 @@
+package com.restaurant.restaurantManagement.filters;
+
+import com.restaurant.restaurantManagement.configuration.security.TokenService;
+import com.restaurant.restaurantManagement.exception.InvalidTokenException;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.web.AuthenticationEntryPoint;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+@RequiredArgsConstructor
+public class BearerTokenAuthenticationFilter extends OncePerRequestFilter {
+
+    private static final String BEARER_PREFIX = "Bearer ";
+
+    private final TokenService tokenService;
+    private final AuthenticationEntryPoint authenticationEntryPoint;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+
+        var header = request.getHeader(HttpHeaders.AUTHORIZATION);
+        if (header == null || !header.startsWith(BEARER_PREFIX)) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        try {
+            var context = SecurityContextHolder.createEmptyContext();
+            context.setAuthentication(tokenService.authenticate(header.substring(BEARER_PREFIX.length()).trim()));
+            SecurityContextHolder.setContext(context);
+        } catch (InvalidTokenException exception) {
+            SecurityContextHolder.clearContext();
+            authenticationEntryPoint.commence(request, response, new BadCredentialsException(exception.getMessage()));
+            return;
+        }
+        filterChain.doFilter(request, response);
+    }
+}
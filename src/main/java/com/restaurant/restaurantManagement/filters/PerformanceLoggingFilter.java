@@ -1,28 +1,100 @@
 package com.restaurant.restaurantManagement.filters;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
 
 import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
 
 @Slf4j
 @Component
 public class PerformanceLoggingFilter extends OncePerRequestFilter {
 
+    public static final String ROUTE_LATENCY_METRIC = "http.route.latency";
+    public static final String UNMATCHED_ROUTE = "UNMATCHED";
+
+    private final MeterRegistry meterRegistry;
+    private final long slowRequestThresholdNanos;
+
+    public PerformanceLoggingFilter(MeterRegistry meterRegistry,
+                                    @Value("${performance.slow-request-threshold:1s}") Duration slowRequestThreshold) {
+        this.meterRegistry = meterRegistry;
+        this.slowRequestThresholdNanos = slowRequestThreshold.toNanos();
+    }
+
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
             throws ServletException, IOException {
 
-        long start = System.currentTimeMillis();
-        filterChain.doFilter(request, response);
-        long duration = System.currentTimeMillis() - start;
+        long start = System.nanoTime();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            if (request.isAsyncStarted()) {
+                request.getAsyncContext().addListener(new CompletionListener(request, response, start));
+            } else {
+                record(request, response, start);
+            }
+        }
+    }
+
+    private void record(HttpServletRequest request, HttpServletResponse response, long start) {
+        long elapsed = System.nanoTime() - start;
+        var route = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        Timer.builder(ROUTE_LATENCY_METRIC)
+                .description("Request latency per matched route")
+                .tag("method", request.getMethod())
+                .tag("route", route != null ? route.toString() : UNMATCHED_ROUTE)
+                .tag("status", Integer.toString(response.getStatus()))
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry)
+                .record(elapsed, TimeUnit.NANOSECONDS);
 
-        log.info("Request {} {} completed in {} ms", request.getMethod(), request.getRequestURI(), duration);
+        if (elapsed >= slowRequestThresholdNanos) {
+            log.warn("Slow request {} {} completed with status {} in {} ms", request.getMethod(), request.getRequestURI(),
+                    response.getStatus(), Duration.ofNanos(elapsed).toMillis());
+        }
     }
-}
 
+    private class CompletionListener implements AsyncListener {
+
+        private final HttpServletRequest request;
+        private final HttpServletResponse response;
+        private final long start;
+
+        private CompletionListener(HttpServletRequest request, HttpServletResponse response, long start) {
+            this.request = request;
+            this.response = response;
+            this.start = start;
+        }
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            record(request, response, start);
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+        }
+    }
+}
@@ -24,7 +24,7 @@ public class RequestLoggingFilter extends OncePerRequestFilter {
         String uri = request.getRequestURI();
         String ip = request.getRemoteAddr();
 
-        log.info("Request - [{}] {} from IP: {}", method, uri, ip);
+        log.debug("Request - [{}] {} from IP: {}", method, uri, ip);
 
         filterChain.doFilter(request, response);
     }
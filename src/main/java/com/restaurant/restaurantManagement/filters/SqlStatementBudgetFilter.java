@@ -0,0 +1,54 @@
+package com.restaurant.restaurantManagement.filters;
+
+import com.restaurant.restaurantManagement.configuration.sql.SqlStatementRecorder;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+
+@Slf4j
+@Component
+public class SqlStatementBudgetFilter extends OncePerRequestFilter {
+
+    private final MeterRegistry meterRegistry;
+    private final long statementBudget;
+
+    public SqlStatementBudgetFilter(MeterRegistry meterRegistry, @Value("${sql.statement-budget:25}") long statementBudget) {
+        this.meterRegistry = meterRegistry;
+        this.statementBudget = statementBudget;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+
+        try (var scope = SqlStatementRecorder.open()) {
+            filterChain.doFilter(request, response);
+
+            var statistics = scope.statistics();
+            var route = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            var tags = Tags.of("method", request.getMethod(),
+                    "route", route != null ? route.toString() : PerformanceLoggingFilter.UNMATCHED_ROUTE);
+            DistributionSummary.builder("http.route.sql.statements").tags(tags).register(meterRegistry).record(statistics.statements());
+            DistributionSummary.builder("http.route.sql.rows").tags(tags).register(meterRegistry).record(statistics.rows());
+            Timer.builder("http.route.sql.time").tags(tags).register(meterRegistry).record(statistics.time());
+
+            if (statistics.statements() > statementBudget) {
+                meterRegistry.counter("http.route.sql.budget.exceeded", tags).increment();
+                log.warn("Request {} {} issued {} (budget {} statements), possible N+1 fetch",
+                        request.getMethod(), request.getRequestURI(), statistics, statementBudget);
+            }
+        }
+    }
+}
@@ -0,0 +1,8 @@
+package com.restaurant.restaurantManagement.model.dto.auth;
+
+import jakarta.validation.constraints.NotBlank;
+
+public record RefreshTokenDTO(
+        @NotBlank String refreshToken
+) {
+}
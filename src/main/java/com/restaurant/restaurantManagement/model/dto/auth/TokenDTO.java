@@ -0,0 +1,12 @@
+package com.restaurant.restaurantManagement.model.dto.auth;
+
+import lombok.Builder;
+
+@Builder
+public record TokenDTO(
+        String accessToken,
+        String refreshToken,
+        String tokenType,
+        long expiresIn
+) {
+}
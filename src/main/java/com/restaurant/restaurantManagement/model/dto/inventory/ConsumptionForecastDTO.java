@@ -0,0 +1,18 @@
+package com.restaurant.restaurantManagement.model.dto.inventory;
+
+import lombok.Builder;
+
+import java.time.LocalDate;
+
+@Builder
+public record ConsumptionForecastDTO(
+        Long productId,
+        String productName,
+        Double averageDailyConsumption,
+        Double dailyDeviation,
+        LocalDate forecastThrough,
+        Long currentQuantity,
+        Double daysOfCover,
+        Long minQuantityOnStock,
+        Long suggestedMinQuantityOnStock
+) {}
@@ -0,0 +1,15 @@
+package com.restaurant.restaurantManagement.model.dto.inventory;
+
+import lombok.Builder;
+
+import java.time.LocalDateTime;
+
+@Builder
+public record LedgerStockDTO(
+        Long productId,
+        String productName,
+        LocalDateTime at,
+        Long quantity,
+        LocalDateTime snapshotThrough,
+        Long replayedTransactions
+) {}
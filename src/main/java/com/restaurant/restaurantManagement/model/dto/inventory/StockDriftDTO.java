@@ -0,0 +1,10 @@
+package com.restaurant.restaurantManagement.model.dto.inventory;
+
+import lombok.Builder;
+
+@Builder
+public record StockDriftDTO(
+        Long productId,
+        Long recordedQuantity,
+        Long ledgerQuantity
+) {}
@@ -0,0 +1,23 @@
+package com.restaurant.restaurantManagement.model.dto.inventoryTransaction;
+
+import com.restaurant.restaurantManagement.enums.BatchTransactionMode;
+import lombok.Builder;
+
+import java.util.List;
+
+@Builder
+public record BatchTransactionResultDTO(
+        BatchTransactionMode mode,
+        int registered,
+        int rejected,
+        List<LineResultDTO> lines
+) {
+    @Builder
+    public record LineResultDTO(
+            int line,
+            Long productId,
+            boolean registered,
+            Long currentStock,
+            String error
+    ) {}
+}
@@ -0,0 +1,18 @@
+package com.restaurant.restaurantManagement.model.dto.inventoryTransaction;
+
+import com.restaurant.restaurantManagement.enums.MeasurementUnit;
+import com.restaurant.restaurantManagement.enums.TransactionMotivation;
+import lombok.Builder;
+
+import java.math.BigDecimal;
+
+@Builder
+public record ConsumptionSummaryDTO(
+        Long productId,
+        String productName,
+        MeasurementUnit measurementUnit,
+        TransactionMotivation motivation,
+        Long quantity,
+        BigDecimal value,
+        Long transactions
+) {}
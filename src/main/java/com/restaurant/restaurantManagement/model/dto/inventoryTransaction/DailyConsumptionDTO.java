@@ -0,0 +1,16 @@
+package com.restaurant.restaurantManagement.model.dto.inventoryTransaction;
+
+import com.restaurant.restaurantManagement.enums.TransactionMotivation;
+import lombok.Builder;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+@Builder
+public record DailyConsumptionDTO(
+        LocalDate date,
+        TransactionMotivation motivation,
+        Long quantity,
+        BigDecimal value,
+        Long transactions
+) {}
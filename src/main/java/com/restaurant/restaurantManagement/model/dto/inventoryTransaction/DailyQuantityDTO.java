@@ -0,0 +1,9 @@
+package com.restaurant.restaurantManagement.model.dto.inventoryTransaction;
+
+import java.time.LocalDate;
+
+public record DailyQuantityDTO(
+        Long productId,
+        LocalDate date,
+        Long quantity
+) {}
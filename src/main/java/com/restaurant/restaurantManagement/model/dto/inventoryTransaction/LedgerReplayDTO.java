@@ -0,0 +1,9 @@
+package com.restaurant.restaurantManagement.model.dto.inventoryTransaction;
+
+import lombok.Builder;
+
+@Builder
+public record LedgerReplayDTO(
+        Long quantity,
+        Long transactions
+) {}
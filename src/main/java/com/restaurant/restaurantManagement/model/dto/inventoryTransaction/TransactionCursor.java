@@ -0,0 +1,29 @@
+package com.restaurant.restaurantManagement.model.dto.inventoryTransaction;
+
+import com.restaurant.restaurantManagement.exception.BusinessException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+public record TransactionCursor(LocalDateTime transactionDateAndTime, Long id) {
+
+    private static final String SEPARATOR = "|";
+
+    public String encode() {
+        var raw = transactionDateAndTime + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static TransactionCursor decode(String token) {
+        try {
+            var raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            var separatorIndex = raw.lastIndexOf(SEPARATOR);
+            return new TransactionCursor(LocalDateTime.parse(raw.substring(0, separatorIndex)),
+                    Long.parseLong(raw.substring(separatorIndex + 1)));
+        } catch (IllegalArgumentException | DateTimeParseException | IndexOutOfBoundsException exception) {
+            throw new BusinessException("Invalid cursor: " + token);
+        }
+    }
+}
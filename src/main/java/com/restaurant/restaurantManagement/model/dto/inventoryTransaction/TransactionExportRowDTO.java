@@ -0,0 +1,26 @@
+package com.restaurant.restaurantManagement.model.dto.inventoryTransaction;
+
+import com.restaurant.restaurantManagement.enums.MeasurementUnit;
+import com.restaurant.restaurantManagement.enums.TransactionMotivation;
+import com.restaurant.restaurantManagement.enums.TransactionType;
+import lombok.Builder;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+@Builder
+public record TransactionExportRowDTO(
+        Long id,
+        LocalDateTime transactionDateAndTime,
+        TransactionType transactionType,
+        Long quantity,
+        MeasurementUnit measurementUnit,
+        BigDecimal unitPrice,
+        TransactionMotivation motivation,
+        String details,
+        Long productId,
+        String productName,
+        Long responsibleId,
+        String responsibleName
+) {
+}
@@ -0,0 +1,28 @@
+package com.restaurant.restaurantManagement.model.dto.inventoryTransaction;
+
+import com.restaurant.restaurantManagement.enums.MeasurementUnit;
+import com.restaurant.restaurantManagement.enums.TransactionMotivation;
+import com.restaurant.restaurantManagement.enums.TransactionType;
+import com.restaurant.restaurantManagement.enums.UserProfile;
+import lombok.Builder;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+@Builder
+public record TransactionHistoryRowDTO(
+        Long id,
+        TransactionType transactionType,
+        Long quantity,
+        BigDecimal unitPrice,
+        TransactionMotivation motivation,
+        String details,
+        LocalDateTime transactionDateAndTime,
+        Long productId,
+        String productName,
+        MeasurementUnit productMeasurementUnit,
+        Long responsibleId,
+        String responsibleName,
+        UserProfile responsibleProfile
+) {
+}
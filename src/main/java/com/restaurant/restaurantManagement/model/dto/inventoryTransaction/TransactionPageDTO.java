@@ -0,0 +1,14 @@
+package com.restaurant.restaurantManagement.model.dto.inventoryTransaction;
+
+import lombok.Builder;
+
+import java.util.List;
+
+@Builder
+public record TransactionPageDTO(
+        List<GetInventoryTransactionDTO> content,
+        int size,
+        boolean hasNext,
+        String nextCursor
+) {
+}
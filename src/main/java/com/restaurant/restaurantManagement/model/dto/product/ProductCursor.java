@@ -0,0 +1,26 @@
+package com.restaurant.restaurantManagement.model.dto.product;
+
+import com.restaurant.restaurantManagement.exception.BusinessException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+public record ProductCursor(String name, Long id) {
+
+    private static final String SEPARATOR = "|";
+
+    public String encode() {
+        var raw = id + SEPARATOR + name;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static ProductCursor decode(String token) {
+        try {
+            var raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            var separatorIndex = raw.indexOf(SEPARATOR);
+            return new ProductCursor(raw.substring(separatorIndex + 1), Long.parseLong(raw.substring(0, separatorIndex)));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException exception) {
+            throw new BusinessException("Invalid cursor: " + token);
+        }
+    }
+}
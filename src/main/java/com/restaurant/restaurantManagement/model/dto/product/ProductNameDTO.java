@@ -0,0 +1,10 @@
+package com.restaurant.restaurantManagement.model.dto.product;
+
+import lombok.Builder;
+
+@Builder
+public record ProductNameDTO(
+        Long id,
+        String name
+) {
+}
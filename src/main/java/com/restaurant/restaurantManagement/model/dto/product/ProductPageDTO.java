@@ -0,0 +1,17 @@
+package com.restaurant.restaurantManagement.model.dto.product;
+
+import lombok.Builder;
+
+import java.util.List;
+
+@Builder
+public record ProductPageDTO(
+        List<GetProductDTO> content,
+        int size,
+        Integer page,
+        Long totalElements,
+        Integer totalPages,
+        boolean hasNext,
+        String nextCursor
+) {
+}
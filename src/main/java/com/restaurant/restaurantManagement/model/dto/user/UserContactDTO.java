@@ -0,0 +1,6 @@
+package com.restaurant.restaurantManagement.model.dto.user;
+
+public record UserContactDTO(
+        String email,
+        String phone
+) {}
@@ -0,0 +1,28 @@
+package com.restaurant.restaurantManagement.model.entity;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@Data
+@Entity
+@Table(name = "consumption_forecast")
+public class ConsumptionForecast {
+
+    @Id
+    private Long productId;
+    private Double averageDailyQuantity;
+    private Double dailyVariance;
+    private LocalDate smoothedThrough;
+    private LocalDateTime updatedAt;
+}
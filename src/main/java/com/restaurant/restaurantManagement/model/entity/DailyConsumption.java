@@ -0,0 +1,45 @@
+package com.restaurant.restaurantManagement.model.entity;
+
+import com.restaurant.restaurantManagement.enums.TransactionMotivation;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@Data
+@Entity
+@Table(name = "daily_consumption")
+@IdClass(DailyConsumption.Key.class)
+public class DailyConsumption {
+
+    @Id
+    private Long productId;
+
+    @Id
+    private LocalDate consumptionDate;
+
+    @Id
+    @Enumerated(EnumType.STRING)
+    private TransactionMotivation motivation;
+
+    private Long quantity;
+    private BigDecimal totalValue;
+    private Long transactionCount;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Key implements Serializable {
+        private Long productId;
+        private LocalDate consumptionDate;
+        private TransactionMotivation motivation;
+    }
+}
@@ -20,7 +20,8 @@ import java.time.LocalDateTime;
 public class InventoryTransaction {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "inventory_transaction_seq")
+    @SequenceGenerator(name = "inventory_transaction_seq", sequenceName = "inventory_transaction_seq", allocationSize = 50)
     private Long id;
 
     @Enumerated(EnumType.STRING)
@@ -34,6 +35,8 @@ public class InventoryTransaction {
     @Enumerated(EnumType.STRING)
     private TransactionMotivation motivation;
     private String details;
+
+    @Column(nullable = false, updatable = false)
     private LocalDateTime transactionDateAndTime;
 
     @ManyToOne(cascade = {CascadeType.PERSIST, CascadeType.DETACH, CascadeType.MERGE, CascadeType.REFRESH})
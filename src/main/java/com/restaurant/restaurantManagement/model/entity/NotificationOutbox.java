@@ -0,0 +1,44 @@
+package com.restaurant.restaurantManagement.model.entity;
+
+import com.restaurant.restaurantManagement.enums.NotificationChannel;
+import com.restaurant.restaurantManagement.enums.OutboxStatus;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@Data
+@Entity
+@Table(name = "notification_outbox", indexes = @Index(name = "idx_notification_outbox_pending", columnList = "status, next_attempt_at"))
+public class NotificationOutbox {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "notification_outbox_seq")
+    @SequenceGenerator(name = "notification_outbox_seq", sequenceName = "notification_outbox_seq", allocationSize = 50)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    private NotificationChannel channel;
+    private String recipient;
+    private String subject;
+
+    @Column(length = 2000)
+    private String message;
+    private Long productId;
+
+    @Enumerated(EnumType.STRING)
+    private OutboxStatus status;
+    private Integer attempts;
+    private LocalDateTime nextAttemptAt;
+    private LocalDateTime createdAt;
+    private LocalDateTime deliveredAt;
+
+    @Column(length = 1100)
+    private String lastError;
+}
@@ -19,7 +19,8 @@ import java.util.List;
 public class Product {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "product_seq")
+    @SequenceGenerator(name = "product_seq", sequenceName = "product_seq", allocationSize = 50)
     private Long id;
     private String name;
 
@@ -29,7 +30,6 @@ public class Product {
     @Enumerated(EnumType.STRING)
     private MeasurementUnit measurementUnit;
     private BigDecimal price;
-    private Long currentStock;
     private Long minQuantityOnStock;
 
     @OneToMany(mappedBy = "product", fetch = FetchType.LAZY, cascade = CascadeType.ALL)
@@ -0,0 +1,27 @@
+package com.restaurant.restaurantManagement.model.entity;
+
+import com.restaurant.restaurantManagement.enums.StockAlertStatus;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@Data
+@Entity
+@Table(name = "stock_alert_state")
+public class StockAlertState {
+
+    @Id
+    private Long productId;
+
+    @Enumerated(EnumType.STRING)
+    private StockAlertStatus status;
+    private LocalDateTime firedAt;
+    private LocalDateTime lastNotifiedAt;
+}
@@ -0,0 +1,28 @@
+package com.restaurant.restaurantManagement.model.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@Data
+@Entity
+@Table(name = "stock_snapshot")
+public class StockSnapshot {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "stock_snapshot_seq")
+    @SequenceGenerator(name = "stock_snapshot_seq", sequenceName = "stock_snapshot_seq", allocationSize = 50)
+    private Long id;
+    private Long productId;
+    private Long quantity;
+    private LocalDateTime lastTransactionAt;
+    private Long lastTransactionId;
+    private LocalDateTime takenAt;
+}
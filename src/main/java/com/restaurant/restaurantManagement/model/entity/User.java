@@ -29,6 +29,10 @@ public class User {
     @Enumerated(EnumType.STRING)
     private UserProfile profile;
 
+    @Builder.Default
+    @Column(nullable = false)
+    private Long tokenVersion = 0L;
+
     @OneToMany(mappedBy = "responsible", fetch = FetchType.LAZY, cascade = {CascadeType.PERSIST, CascadeType.DETACH, CascadeType.MERGE, CascadeType.REFRESH})
     private List<InventoryTransaction> inventoryTransactions;
 
@@ -2,6 +2,7 @@ package com.restaurant.restaurantManagement.model.mapper;
 
 import com.restaurant.restaurantManagement.model.dto.inventoryTransaction.CreateInventoryTransactionDTO;
 import com.restaurant.restaurantManagement.model.dto.inventoryTransaction.GetInventoryTransactionDTO;
+import com.restaurant.restaurantManagement.model.dto.inventoryTransaction.TransactionHistoryRowDTO;
 import com.restaurant.restaurantManagement.model.entity.InventoryTransaction;
 import com.restaurant.restaurantManagement.model.entity.Product;
 import org.springframework.stereotype.Component;
@@ -28,6 +29,7 @@ public class InventoryTransactionMapper {
                 .unitPrice(inventoryTransaction.getUnitPrice())
                 .motivation(inventoryTransaction.getMotivation())
                 .details(inventoryTransaction.getDetails())
+                .transactionDateAndTime(inventoryTransaction.getTransactionDateAndTime())
                 .product(GetInventoryTransactionDTO.ProductDTO.builder()
                         .id(inventoryTransaction.getProduct().getId())
                         .name(inventoryTransaction.getProduct().getName())
@@ -40,4 +42,26 @@ public class InventoryTransactionMapper {
                         .build())
                 .build();
     }
+
+    public GetInventoryTransactionDTO toGetInventoryTransactionDTO(TransactionHistoryRowDTO row) {
+        return GetInventoryTransactionDTO.builder()
+                .id(row.id())
+                .transactionType(row.transactionType())
+                .quantity(row.quantity())
+                .unitPrice(row.unitPrice())
+                .motivation(row.motivation())
+                .details(row.details())
+                .transactionDateAndTime(row.transactionDateAndTime())
+                .product(GetInventoryTransactionDTO.ProductDTO.builder()
+                        .id(row.productId())
+                        .name(row.productName())
+                        .measurementUnit(row.productMeasurementUnit())
+                        .build())
+                .responsible(GetInventoryTransactionDTO.UserDTO.builder()
+                        .id(row.responsibleId())
+                        .name(row.responsibleName())
+                        .profile(row.responsibleProfile())
+                        .build())
+                .build();
+    }
 }
@@ -2,27 +2,31 @@ package com.restaurant.restaurantManagement.model.mapper;
 
 import com.restaurant.restaurantManagement.model.dto.product.CreateProductDTO;
 import com.restaurant.restaurantManagement.model.dto.product.GetProductDTO;
+import com.restaurant.restaurantManagement.model.dto.product.ProductRowDTO;
 import com.restaurant.restaurantManagement.model.dto.product.UpdateProductDTO;
 import com.restaurant.restaurantManagement.model.entity.Inventory;
 import com.restaurant.restaurantManagement.model.entity.Product;
 import org.springframework.stereotype.Component;
 
+import java.time.LocalDateTime;
+
 @Component
 public class ProductMapper {
 
     public Product toProduct(CreateProductDTO productDTO) {
-        return Product.builder()
+        var product = Product.builder()
                 .name(productDTO.name())
                 .category(productDTO.category())
                 .measurementUnit(productDTO.measurementUnit())
                 .price(productDTO.price())
-                .currentStock(productDTO.inventory().currentStock())
                 .minQuantityOnStock(productDTO.minQuantityStock())
-                .inventory(Inventory.builder()
-                        .currentQuantity(productDTO.inventory().currentStock())
-                        .lastUpdatedAt(productDTO.inventory().lastUpdateAt())
-                        .build())
                 .build();
+        product.setInventory(Inventory.builder()
+                .currentQuantity(0L)
+                .lastUpdatedAt(productDTO.inventory().lastUpdateAt() != null ? productDTO.inventory().lastUpdateAt() : LocalDateTime.now())
+                .product(product)
+                .build());
+        return product;
     }
 
     public GetProductDTO toGetProductDTO(Product product) {
@@ -40,6 +44,21 @@ public class ProductMapper {
                 .build();
     }
 
+    public GetProductDTO toGetProductDTO(ProductRowDTO row) {
+        return GetProductDTO.builder()
+                .id(row.id())
+                .name(row.name())
+                .category(row.category())
+                .measurementUnit(row.measurementUnit())
+                .price(row.price())
+                .minQuantityStock(row.minQuantityOnStock())
+                .inventory(GetProductDTO.InventoryDTO.builder()
+                        .currentQuantity(row.currentQuantity())
+                        .lastUpdatedAt(row.lastUpdatedAt())
+                        .build())
+                .build();
+    }
+
     public Product toUpdateFromDTO(UpdateProductDTO updateProductDTO, Product existingProduct) {
         return Product.builder()
                 .id(existingProduct.getId())
@@ -47,7 +66,6 @@ public class ProductMapper {
                 .category(updateProductDTO.category() != null ? updateProductDTO.category() : existingProduct.getCategory())
                 .price(updateProductDTO.price() != null ? updateProductDTO.price() : existingProduct.getPrice())
                 .measurementUnit(updateProductDTO.measurementUnit() != null ? updateProductDTO.measurementUnit() : existingProduct.getMeasurementUnit())
-                .currentStock(updateProductDTO.currentStock() != null ? updateProductDTO.currentStock() : existingProduct.getCurrentStock())
                 .minQuantityOnStock(updateProductDTO.minQuantityOnStock() != null ? updateProductDTO.minQuantityOnStock() : existingProduct.getMinQuantityOnStock())
                 .build();
     }
@@ -40,6 +40,7 @@ public class UserMapper {
                 .password(updateUserDTO.password() != null ? updateUserDTO.password() : existingUser.getPassword())
                 .profile(updateUserDTO.profile() != null ? updateUserDTO.profile() : existingUser.getProfile())
                 .authorities(updateUserDTO.authority() != null ? updateUserDTO.authority() : existingUser.getAuthorities())
+                .tokenVersion(existingUser.getTokenVersion())
                 .build();
     }
 }
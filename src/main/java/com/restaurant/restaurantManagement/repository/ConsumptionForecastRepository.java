@@ -0,0 +1,13 @@
+package com.restaurant.restaurantManagement.repository;
+
+import com.restaurant.restaurantManagement.model.entity.ConsumptionForecast;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface ConsumptionForecastRepository extends JpaRepository<ConsumptionForecast, Long> {
+
+    @Query(value = "SELECT pg_try_advisory_xact_lock(hashtext('consumption_forecast_refresh'))", nativeQuery = true)
+    boolean tryLockForRefresh();
+}
@@ -0,0 +1,82 @@
+package com.restaurant.restaurantManagement.repository;
+
+import com.restaurant.restaurantManagement.enums.TransactionMotivation;
+import com.restaurant.restaurantManagement.model.dto.inventoryTransaction.ConsumptionSummaryDTO;
+import com.restaurant.restaurantManagement.model.dto.inventoryTransaction.DailyConsumptionDTO;
+import com.restaurant.restaurantManagement.model.dto.inventoryTransaction.DailyQuantityDTO;
+import com.restaurant.restaurantManagement.model.entity.DailyConsumption;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+@Repository
+public interface DailyConsumptionRepository extends JpaRepository<DailyConsumption, DailyConsumption.Key> {
+
+    @Modifying
+    @Query(value = """
+    INSERT INTO daily_consumption (product_id, consumption_date, motivation, quantity, total_value, transaction_count)
+    VALUES (:productId, :consumptionDate, :motivation, :quantity, :totalValue, :transactionCount)
+    ON CONFLICT (product_id, consumption_date, motivation) DO UPDATE
+    SET quantity = daily_consumption.quantity + EXCLUDED.quantity,
+        total_value = daily_consumption.total_value + EXCLUDED.total_value,
+        transaction_count = daily_consumption.transaction_count + EXCLUDED.transaction_count
+""", nativeQuery = true)
+    void addConsumption(Long productId, LocalDate consumptionDate, String motivation,
+                        Long quantity, BigDecimal totalValue, Long transactionCount);
+
+    @Query("""
+            SELECT new com.restaurant.restaurantManagement.model.dto.inventoryTransaction.DailyConsumptionDTO(
+                c.consumptionDate, c.motivation, c.quantity, c.totalValue, c.transactionCount)
+            FROM DailyConsumption c
+            WHERE c.productId = :productId
+              AND c.consumptionDate BETWEEN :from AND :to
+            ORDER BY c.consumptionDate, c.motivation
+            """)
+    List<DailyConsumptionDTO> findDaily(Long productId, LocalDate from, LocalDate to);
+
+    @Query("""
+            SELECT new com.restaurant.restaurantManagement.model.dto.inventoryTransaction.DailyConsumptionDTO(
+                c.consumptionDate, c.motivation, c.quantity, c.totalValue, c.transactionCount)
+            FROM DailyConsumption c
+            WHERE c.productId = :productId
+              AND c.consumptionDate BETWEEN :from AND :to
+              AND c.motivation = :motivation
+            ORDER BY c.consumptionDate
+            """)
+    List<DailyConsumptionDTO> findDailyByMotivation(Long productId, LocalDate from, LocalDate to, TransactionMotivation motivation);
+
+    @Query("""
+            SELECT new com.restaurant.restaurantManagement.model.dto.inventoryTransaction.ConsumptionSummaryDTO(
+                p.id, p.name, p.measurementUnit, c.motivation, SUM(c.quantity), SUM(c.totalValue), SUM(c.transactionCount))
+            FROM DailyConsumption c JOIN Product p ON p.id = c.productId
+            WHERE c.consumptionDate BETWEEN :from AND :to
+            GROUP BY p.id, p.name, p.measurementUnit, c.motivation
+            ORDER BY p.name, p.id, c.motivation
+            """)
+    List<ConsumptionSummaryDTO> summarize(LocalDate from, LocalDate to);
+
+    @Query("""
+            SELECT new com.restaurant.restaurantManagement.model.dto.inventoryTransaction.ConsumptionSummaryDTO(
+                p.id, p.name, p.measurementUnit, c.motivation, SUM(c.quantity), SUM(c.totalValue), SUM(c.transactionCount))
+            FROM DailyConsumption c JOIN Product p ON p.id = c.productId
+            WHERE c.consumptionDate BETWEEN :from AND :to
+              AND c.motivation = :motivation
+            GROUP BY p.id, p.name, p.measurementUnit, c.motivation
+            ORDER BY p.name, p.id
+            """)
+    List<ConsumptionSummaryDTO> summarizeByMotivation(LocalDate from, LocalDate to, TransactionMotivation motivation);
+
+    @Query("""
+            SELECT new com.restaurant.restaurantManagement.model.dto.inventoryTransaction.DailyQuantityDTO(
+                c.productId, c.consumptionDate, SUM(c.quantity))
+            FROM DailyConsumption c
+            WHERE c.consumptionDate > :after AND c.consumptionDate <= :through
+            GROUP BY c.productId, c.consumptionDate
+            """)
+    List<DailyQuantityDTO> sumDailyQuantities(LocalDate after, LocalDate through);
+}
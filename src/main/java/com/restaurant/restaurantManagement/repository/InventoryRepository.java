@@ -1,31 +1,97 @@
 package com.restaurant.restaurantManagement.repository;
 
 import com.restaurant.restaurantManagement.enums.ProductCategory;
-import com.restaurant.restaurantManagement.model.dto.product.GetProductDTO;
 import com.restaurant.restaurantManagement.model.entity.Inventory;
 import com.restaurant.restaurantManagement.model.entity.Product;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
-import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface InventoryRepository extends JpaRepository<Inventory, Long> {
 
-    @Query("SELECT i FROM Inventory i WHERE LOWER(i.product.name) = LOWER(:productName)")
+    @Query("SELECT i FROM Inventory i JOIN FETCH i.product p WHERE LOWER(p.name) = LOWER(:productName)")
     Optional<Inventory> findByProductName(String productName);
 
-    @Query("SELECT i FROM Inventory i WHERE i.product = product")
+    @Query("SELECT i FROM Inventory i WHERE i.product = :product")
     Optional<Inventory> findByProduct(Product product);
 
-    @Query("SELECT i FROM Inventory i WHERE i.product.currentStock <= i.product.minQuantityOnStock")
+    @Query("SELECT i FROM Inventory i JOIN FETCH i.product p WHERE i.currentQuantity <= p.minQuantityOnStock")
     List<Inventory> findWithLowStock();
 
-    @Query("SELECT i FROM Inventory i WHERE i.product.category = :category")
+    @Query("SELECT i FROM Inventory i JOIN FETCH i.product p WHERE p.category = :category")
     List<Inventory> findByProductCategoryIgnoreCase(ProductCategory category);
 
+    @Query(value = """
+    UPDATE inventory SET current_quantity = current_quantity + :delta, last_updated_at = :now
+    WHERE product_id = :productId AND current_quantity + :lowestRunningDelta >= 0
+    RETURNING current_quantity
+""", nativeQuery = true)
+    Optional<Long> applyQuantityDelta(Long productId, Long delta, Long lowestRunningDelta, LocalDateTime now);
 
+    @Query(value = """
+    UPDATE inventory SET current_quantity = :quantity, last_updated_at = :now
+    FROM (SELECT id, current_quantity FROM inventory WHERE product_id = :productId FOR UPDATE) previous
+    WHERE inventory.id = previous.id
+    RETURNING previous.current_quantity
+""", nativeQuery = true)
+    Optional<Long> replaceQuantity(Long productId, Long quantity, LocalDateTime now);
+
+    @Modifying
+    @Query(value = "LOCK TABLE inventory IN EXCLUSIVE MODE", nativeQuery = true)
+    void lockForReconciliation();
+
+    @Query(value = """
+    SELECT inv.product_id AS "productId", inv.current_quantity AS "recordedQuantity",
+           COALESCE(s.quantity, 0) + COALESCE(r.quantity, 0) AS "ledgerQuantity"
+    FROM inventory inv
+    LEFT JOIN LATERAL (
+        SELECT ls.quantity, ls.last_transaction_at, ls.last_transaction_id FROM stock_snapshot ls
+        WHERE ls.product_id = inv.product_id
+        ORDER BY ls.last_transaction_at DESC, ls.last_transaction_id DESC
+        LIMIT 1) s ON TRUE
+    LEFT JOIN LATERAL (
+        SELECT SUM(CASE t.type WHEN 'INBOUND' THEN t.quantity ELSE -t.quantity END) AS quantity
+        FROM inventory_transaction t
+        WHERE t.product_id = inv.product_id
+          AND t.transaction_date_and_time >= COALESCE(s.last_transaction_at, '-infinity')
+          AND (t.transaction_date_and_time, t.id) > (COALESCE(s.last_transaction_at, '-infinity'), COALESCE(s.last_transaction_id, 0))) r ON TRUE
+    WHERE inv.product_id IS NOT NULL
+      AND inv.current_quantity IS DISTINCT FROM COALESCE(s.quantity, 0) + COALESCE(r.quantity, 0)
+    ORDER BY inv.product_id
+""", nativeQuery = true)
+    List<StockDrift> findStockDrift();
+
+    @Query(value = """
+    UPDATE inventory SET current_quantity = drift.ledger_quantity, last_updated_at = :now
+    FROM (
+        SELECT inv.id, inv.product_id, inv.current_quantity, COALESCE(s.quantity, 0) + COALESCE(r.quantity, 0) AS ledger_quantity
+        FROM inventory inv
+        LEFT JOIN LATERAL (
+            SELECT ls.quantity, ls.last_transaction_at, ls.last_transaction_id FROM stock_snapshot ls
+            WHERE ls.product_id = inv.product_id
+            ORDER BY ls.last_transaction_at DESC, ls.last_transaction_id DESC
+            LIMIT 1) s ON TRUE
+        LEFT JOIN LATERAL (
+            SELECT SUM(CASE t.type WHEN 'INBOUND' THEN t.quantity ELSE -t.quantity END) AS quantity
+            FROM inventory_transaction t
+            WHERE t.product_id = inv.product_id
+              AND t.transaction_date_and_time >= COALESCE(s.last_transaction_at, '-infinity')
+              AND (t.transaction_date_and_time, t.id) > (COALESCE(s.last_transaction_at, '-infinity'), COALESCE(s.last_transaction_id, 0))) r ON TRUE
+        WHERE inv.product_id IS NOT NULL) drift
+    WHERE inventory.id = drift.id AND drift.current_quantity IS DISTINCT FROM drift.ledger_quantity
+    RETURNING drift.product_id AS "productId", drift.current_quantity AS "recordedQuantity", drift.ledger_quantity AS "ledgerQuantity"
+""", nativeQuery = true)
+    List<StockDrift> rebuildQuantitiesFromLedger(LocalDateTime now);
+
+    interface StockDrift {
+        Long getProductId();
+        Long getRecordedQuantity();
+        Long getLedgerQuantity();
+    }
 }
@@ -1,17 +1,67 @@
 package com.restaurant.restaurantManagement.repository;
 
+import com.restaurant.restaurantManagement.model.dto.inventoryTransaction.LedgerReplayDTO;
+import com.restaurant.restaurantManagement.model.dto.inventoryTransaction.TransactionExportRowDTO;
+import com.restaurant.restaurantManagement.model.dto.inventoryTransaction.TransactionHistoryRowDTO;
 import com.restaurant.restaurantManagement.model.entity.InventoryTransaction;
-import com.restaurant.restaurantManagement.model.entity.Product;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
-import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface InventoryTransactionRepository extends JpaRepository<InventoryTransaction, Long> {
 
-    List<InventoryTransaction> findByProductId(Long id);
+    @Query("""
+            SELECT new com.restaurant.restaurantManagement.model.dto.inventoryTransaction.TransactionHistoryRowDTO(
+                t.id, t.type, t.quantity, t.unitPrice, t.motivation, t.details, t.transactionDateAndTime,
+                p.id, p.name, p.measurementUnit, u.id, u.name, u.profile)
+            FROM InventoryTransaction t JOIN t.product p LEFT JOIN t.responsible u
+            WHERE t.product.id = :productId
+              AND t.transactionDateAndTime BETWEEN :from AND :beforeDate
+              AND (t.transactionDateAndTime, t.id) < (:beforeDate, :beforeId)
+            ORDER BY t.transactionDateAndTime DESC, t.id DESC
+            """)
+    List<TransactionHistoryRowDTO> findPageByProductId(Long productId, LocalDateTime from, LocalDateTime beforeDate, Long beforeId, Limit limit);
 
-    List<InventoryTransaction> findByResponsibleId(Long id);
+    @Query("""
+            SELECT new com.restaurant.restaurantManagement.model.dto.inventoryTransaction.TransactionHistoryRowDTO(
+                t.id, t.type, t.quantity, t.unitPrice, t.motivation, t.details, t.transactionDateAndTime,
+                p.id, p.name, p.measurementUnit, u.id, u.name, u.profile)
+            FROM InventoryTransaction t JOIN t.product p JOIN t.responsible u
+            WHERE t.responsible.id = :responsibleId
+              AND t.transactionDateAndTime BETWEEN :from AND :beforeDate
+              AND (t.transactionDateAndTime, t.id) < (:beforeDate, :beforeId)
+            ORDER BY t.transactionDateAndTime DESC, t.id DESC
+            """)
+    List<TransactionHistoryRowDTO> findPageByResponsibleId(Long responsibleId, LocalDateTime from, LocalDateTime beforeDate, Long beforeId, Limit limit);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("""
+            SELECT new com.restaurant.restaurantManagement.model.dto.inventoryTransaction.TransactionExportRowDTO(
+                t.id, t.transactionDateAndTime, t.type, t.quantity, t.measurementUnit, t.unitPrice, t.motivation, t.details,
+                p.id, p.name, u.id, u.name)
+            FROM InventoryTransaction t LEFT JOIN t.product p LEFT JOIN t.responsible u
+            WHERE t.transactionDateAndTime >= :from AND t.transactionDateAndTime < :to
+            ORDER BY t.transactionDateAndTime, t.id
+            """)
+    Stream<TransactionExportRowDTO> streamForExport(LocalDateTime from, LocalDateTime to);
+
+    @Query("""
+            SELECT new com.restaurant.restaurantManagement.model.dto.inventoryTransaction.LedgerReplayDTO(
+                COALESCE(SUM(CASE WHEN t.type = com.restaurant.restaurantManagement.enums.TransactionType.INBOUND
+                    THEN t.quantity ELSE -t.quantity END), 0), COUNT(t))
+            FROM InventoryTransaction t
+            WHERE t.product.id = :productId
+              AND t.transactionDateAndTime BETWEEN :afterDate AND :at
+              AND (t.transactionDateAndTime, t.id) > (:afterDate, :afterId)
+            """)
+    LedgerReplayDTO replayAfter(Long productId, LocalDateTime afterDate, Long afterId, LocalDateTime at);
 }
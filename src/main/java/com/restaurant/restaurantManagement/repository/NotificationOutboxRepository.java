@@ -0,0 +1,22 @@
+package com.restaurant.restaurantManagement.repository;
+
+import com.restaurant.restaurantManagement.model.entity.NotificationOutbox;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface NotificationOutboxRepository extends JpaRepository<NotificationOutbox, Long> {
+
+    @Query(value = """
+    SELECT * FROM notification_outbox
+    WHERE status = 'PENDING' AND next_attempt_at <= :now
+    ORDER BY id
+    LIMIT :batchSize
+    FOR UPDATE SKIP LOCKED
+""", nativeQuery = true)
+    List<NotificationOutbox> claimPending(LocalDateTime now, int batchSize);
+}
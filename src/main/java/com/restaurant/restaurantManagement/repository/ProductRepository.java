@@ -1,24 +1,60 @@
 package com.restaurant.restaurantManagement.repository;
 
-import com.restaurant.restaurantManagement.enums.MeasurementUnit;
-import com.restaurant.restaurantManagement.enums.ProductCategory;
+import com.restaurant.restaurantManagement.model.dto.product.ProductNameDTO;
+import com.restaurant.restaurantManagement.model.dto.product.ProductRowDTO;
 import com.restaurant.restaurantManagement.model.entity.Product;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
-public interface ProductRepository extends JpaRepository<Product, Long> {
+public interface ProductRepository extends JpaRepository<Product, Long>, JpaSpecificationExecutor<Product>,
+        ProductSearchRepository {
 
+    @EntityGraph(attributePaths = "inventory")
+    @Query("SELECT p FROM Product p WHERE lower(p.name) = lower(:name)")
     Optional<Product> findByNameIgnoreCase(String name);
 
+    @Query("SELECT new com.restaurant.restaurantManagement.model.dto.product.ProductNameDTO(p.id, p.name) FROM Product p")
+    List<ProductNameDTO> findAllNames();
+
+    @Query(value = """
+    SELECT new com.restaurant.restaurantManagement.model.dto.product.ProductRowDTO(
+        p.id, p.name, p.category, p.measurementUnit, p.price, p.minQuantityOnStock, i.currentQuantity, i.lastUpdatedAt)
+    FROM Product p LEFT JOIN p.inventory i
+""", countQuery = "SELECT COUNT(p) FROM Product p")
+    Page<ProductRowDTO> findAllRows(Pageable pageable);
+
+    @Query("""
+    SELECT new com.restaurant.restaurantManagement.model.dto.product.ProductRowDTO(
+        p.id, p.name, p.category, p.measurementUnit, p.price, p.minQuantityOnStock, i.currentQuantity, i.lastUpdatedAt)
+    FROM Product p LEFT JOIN p.inventory i
+    WHERE (p.name, p.id) > (:afterName, :afterId)
+    ORDER BY p.name, p.id
+""")
+    List<ProductRowDTO> findRowsAfter(String afterName, Long afterId, Limit limit);
+
+    @Override
+    @EntityGraph(attributePaths = "inventory")
+    List<Product> findAll(Specification<Product> specification);
+
+    @EntityGraph(attributePaths = "inventory")
+    List<Product> findAllByIdIn(Collection<Long> ids);
+
     @Query("""
-    SELECT p FROM Product p
-    WHERE (:name IS NULL OR LOWER(p.name) LIKE LOWER(CONCAT('%', :name, '%')))
-      AND (:measurementUnit IS NULL OR p.measurementUnit = :measurementUnit)
-      AND (:category IS NULL OR p.category = :category)
+    SELECT new com.restaurant.restaurantManagement.model.dto.product.ProductRowDTO(
+        p.id, p.name, p.category, p.measurementUnit, p.price, p.minQuantityOnStock, i.currentQuantity, i.lastUpdatedAt)
+    FROM Product p LEFT JOIN p.inventory i
+    WHERE p.id IN :ids
 """)
-    List<Product> findByFilters(String name, ProductCategory category, MeasurementUnit measurementUnit);
+    List<ProductRowDTO> findRowsByIds(Collection<Long> ids);
 
 }
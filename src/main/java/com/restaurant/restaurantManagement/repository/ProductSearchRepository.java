@@ -0,0 +1,8 @@
+package com.restaurant.restaurantManagement.repository;
+
+import java.util.List;
+
+public interface ProductSearchRepository {
+
+    List<Long> searchRankedIdsByName(String term, String pattern, String category, String measurementUnit, int limit);
+}
@@ -0,0 +1,45 @@
+package com.restaurant.restaurantManagement.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+
+import java.util.List;
+
+class ProductSearchRepositoryImpl implements ProductSearchRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    // Optional filters are appended only when present, so each combination gets its own plan instead of
+    // one catch-all plan with "? IS NULL OR ..." branches the planner can't prune.
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<Long> searchRankedIdsByName(String term, String pattern, String category, String measurementUnit, int limit) {
+        var sql = new StringBuilder("""
+                SELECT p.id FROM product p
+                WHERE (lower(p.name) LIKE '%' || :pattern || '%' ESCAPE '\\' OR lower(p.name) % :term)
+                """);
+        if (category != null) {
+            sql.append("  AND p.category = :category\n");
+        }
+        if (measurementUnit != null) {
+            sql.append("  AND p.measurement_unit = :measurementUnit\n");
+        }
+        sql.append("""
+                ORDER BY lower(p.name) LIKE :pattern || '%' ESCAPE '\\' DESC, similarity(lower(p.name), :term) DESC, p.name, p.id
+                LIMIT :limit
+                """);
+
+        var query = entityManager.createNativeQuery(sql.toString(), Long.class)
+                .setParameter("term", term)
+                .setParameter("pattern", pattern)
+                .setParameter("limit", limit);
+        if (category != null) {
+            query.setParameter("category", category);
+        }
+        if (measurementUnit != null) {
+            query.setParameter("measurementUnit", measurementUnit);
+        }
+        return query.getResultList();
+    }
+}
@@ -0,0 +1,34 @@
+package com.restaurant.restaurantManagement.repository;
+
+import com.restaurant.restaurantManagement.enums.MeasurementUnit;
+import com.restaurant.restaurantManagement.enums.ProductCategory;
+import com.restaurant.restaurantManagement.model.entity.Product;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.Locale;
+
+public final class ProductSpecifications {
+
+    private ProductSpecifications() {
+    }
+
+    public static Specification<Product> byFilters(String name, ProductCategory category, MeasurementUnit measurementUnit) {
+        return Specification.allOf(nameContains(name), hasCategory(category), hasMeasurementUnit(measurementUnit));
+    }
+
+    public static Specification<Product> nameContains(String name) {
+        if (name == null || name.isBlank()) {
+            return null;
+        }
+        var pattern = "%" + SpecificationPatterns.escapeLike(name.toLowerCase(Locale.ROOT)) + "%";
+        return (root, query, builder) -> builder.like(builder.lower(root.get("name")), pattern, SpecificationPatterns.ESCAPE);
+    }
+
+    public static Specification<Product> hasCategory(ProductCategory category) {
+        return category == null ? null : (root, query, builder) -> builder.equal(root.get("category"), category);
+    }
+
+    public static Specification<Product> hasMeasurementUnit(MeasurementUnit measurementUnit) {
+        return measurementUnit == null ? null : (root, query, builder) -> builder.equal(root.get("measurementUnit"), measurementUnit);
+    }
+}
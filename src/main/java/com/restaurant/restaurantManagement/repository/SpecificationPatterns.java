@@ -0,0 +1,13 @@
+package com.restaurant.restaurantManagement.repository;
+
+final class SpecificationPatterns {
+
+    static final char ESCAPE = '\\';
+
+    private SpecificationPatterns() {
+    }
+
+    static String escapeLike(String value) {
+        return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+}
@@ -0,0 +1,29 @@
+package com.restaurant.restaurantManagement.repository;
+
+import com.restaurant.restaurantManagement.model.entity.StockAlertState;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+
+@Repository
+public interface StockAlertStateRepository extends JpaRepository<StockAlertState, Long> {
+
+    @Modifying
+    @Query(value = """
+    INSERT INTO stock_alert_state (product_id, status, fired_at, last_notified_at)
+    VALUES (:productId, 'FIRED', :now, :now)
+    ON CONFLICT (product_id) DO UPDATE
+    SET status = 'FIRED',
+        fired_at = CASE WHEN stock_alert_state.status = 'ARMED' THEN EXCLUDED.fired_at ELSE stock_alert_state.fired_at END,
+        last_notified_at = EXCLUDED.last_notified_at
+    WHERE stock_alert_state.status = 'ARMED' OR stock_alert_state.last_notified_at <= :remindBefore
+""", nativeQuery = true)
+    int tryFire(Long productId, LocalDateTime now, LocalDateTime remindBefore);
+
+    @Modifying
+    @Query(value = "UPDATE stock_alert_state SET status = 'ARMED' WHERE product_id = :productId AND status = 'FIRED'", nativeQuery = true)
+    int rearm(Long productId);
+}
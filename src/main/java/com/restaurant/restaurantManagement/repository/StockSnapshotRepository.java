@@ -0,0 +1,39 @@
+package com.restaurant.restaurantManagement.repository;
+
+import com.restaurant.restaurantManagement.model.entity.StockSnapshot;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+@Repository
+public interface StockSnapshotRepository extends JpaRepository<StockSnapshot, Long> {
+
+    Optional<StockSnapshot> findFirstByProductIdAndLastTransactionAtLessThanEqualOrderByLastTransactionAtDescLastTransactionIdDesc(
+            Long productId, LocalDateTime at);
+
+    @Modifying
+    @Query(value = """
+    INSERT INTO stock_snapshot (id, product_id, quantity, last_transaction_at, last_transaction_id, taken_at)
+    SELECT nextval('stock_snapshot_seq'), p.id,
+           COALESCE(s.quantity, 0) + SUM(CASE t.type WHEN 'INBOUND' THEN t.quantity ELSE -t.quantity END),
+           MAX(t.transaction_date_and_time),
+           (ARRAY_AGG(t.id ORDER BY t.transaction_date_and_time DESC, t.id DESC))[1],
+           :now
+    FROM product p
+    LEFT JOIN LATERAL (
+        SELECT ls.quantity, ls.last_transaction_at, ls.last_transaction_id FROM stock_snapshot ls
+        WHERE ls.product_id = p.id
+        ORDER BY ls.last_transaction_at DESC, ls.last_transaction_id DESC
+        LIMIT 1) s ON TRUE
+    JOIN inventory_transaction t ON t.product_id = p.id
+        AND t.transaction_date_and_time BETWEEN COALESCE(s.last_transaction_at, '-infinity') AND :cutoff
+        AND (t.transaction_date_and_time, t.id) > (COALESCE(s.last_transaction_at, '-infinity'), COALESCE(s.last_transaction_id, 0))
+    GROUP BY p.id, s.quantity
+    ON CONFLICT ON CONSTRAINT uk_stock_snapshot_watermark DO NOTHING
+""", nativeQuery = true)
+    int takeSnapshots(LocalDateTime cutoff, LocalDateTime now);
+}
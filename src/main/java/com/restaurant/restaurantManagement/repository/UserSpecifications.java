@@ -0,0 +1,41 @@
+package com.restaurant.restaurantManagement.repository;
+
+import com.restaurant.restaurantManagement.enums.UserProfile;
+import com.restaurant.restaurantManagement.model.entity.User;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.Locale;
+
+public final class UserSpecifications {
+
+    private UserSpecifications() {
+    }
+
+    public static Specification<User> byFilters(String name, String email, String cpf, String phone, UserProfile profile) {
+        return Specification.allOf(nameContains(name), hasEmail(email), hasCpf(cpf), hasPhone(phone), hasProfile(profile));
+    }
+
+    public static Specification<User> nameContains(String name) {
+        if (name == null || name.isBlank()) {
+            return null;
+        }
+        var pattern = "%" + SpecificationPatterns.escapeLike(name.toLowerCase(Locale.ROOT)) + "%";
+        return (root, query, builder) -> builder.like(builder.lower(root.get("name")), pattern, SpecificationPatterns.ESCAPE);
+    }
+
+    public static Specification<User> hasEmail(String email) {
+        return email == null ? null : (root, query, builder) -> builder.equal(root.get("email"), email);
+    }
+
+    public static Specification<User> hasCpf(String cpf) {
+        return cpf == null ? null : (root, query, builder) -> builder.equal(root.get("cpf"), cpf);
+    }
+
+    public static Specification<User> hasPhone(String phone) {
+        return phone == null ? null : (root, query, builder) -> builder.equal(root.get("phone"), phone);
+    }
+
+    public static Specification<User> hasProfile(UserProfile profile) {
+        return profile == null ? null : (root, query, builder) -> builder.equal(root.get("profile"), profile);
+    }
+}
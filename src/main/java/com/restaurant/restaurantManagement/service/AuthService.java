@@ -0,0 +1,50 @@
+package com.restaurant.restaurantManagement.service;
+
+import com.restaurant.restaurantManagement.configuration.security.TokenService;
+import com.restaurant.restaurantManagement.configuration.security.UserDetailsService;
+import com.restaurant.restaurantManagement.exception.InvalidTokenException;
+import com.restaurant.restaurantManagement.exception.OperationNotAllowedException;
+import com.restaurant.restaurantManagement.model.dto.auth.TokenDTO;
+import com.restaurant.restaurantManagement.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.security.web.authentication.preauth.PreAuthenticatedAuthenticationToken;
+import org.springframework.stereotype.Service;
+
+@RequiredArgsConstructor
+@Service
+public class AuthService {
+
+    private final TokenService tokenService;
+    private final UserDetailsService userDetailsService;
+    private final UserRepository userRepository;
+
+    public TokenDTO issueTokens(Authentication authentication) {
+        if (authentication instanceof PreAuthenticatedAuthenticationToken) {
+            throw new OperationNotAllowedException("Tokens can only be issued for a username and password login!");
+        }
+        var tokenVersion = currentTokenVersion(authentication.getName());
+        return tokenService.issueTokens(authentication.getName(), authentication.getAuthorities(), tokenVersion);
+    }
+
+    public TokenDTO refreshTokens(String refreshToken) {
+        var verified = tokenService.verifyRefreshToken(refreshToken);
+        var username = verified.username();
+        var tokenVersion = currentTokenVersion(username);
+        if (tokenVersion != verified.tokenVersion()) {
+            throw new InvalidTokenException("Refresh token was revoked by a credential change");
+        }
+        try {
+            var user = userDetailsService.loadUserByUsername(username);
+            return tokenService.issueTokens(user.getUsername(), user.getAuthorities(), tokenVersion);
+        } catch (UsernameNotFoundException exception) {
+            throw new InvalidTokenException("User no longer exists: " + username);
+        }
+    }
+
+    private long currentTokenVersion(String username) {
+        return userRepository.findTokenVersionByEmail(username)
+                .orElseThrow(() -> new InvalidTokenException("User no longer exists: " + username));
+    }
+}
@@ -0,0 +1,185 @@
+package com.restaurant.restaurantManagement.service;
+
+import com.restaurant.restaurantManagement.exception.BusinessException;
+import com.restaurant.restaurantManagement.model.dto.inventory.ConsumptionForecastDTO;
+import com.restaurant.restaurantManagement.model.dto.inventoryTransaction.DailyQuantityDTO;
+import com.restaurant.restaurantManagement.model.entity.ConsumptionForecast;
+import com.restaurant.restaurantManagement.model.entity.Product;
+import com.restaurant.restaurantManagement.repository.ConsumptionForecastRepository;
+import com.restaurant.restaurantManagement.repository.DailyConsumptionRepository;
+import com.restaurant.restaurantManagement.repository.ProductRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Service
+public class ConsumptionForecastService {
+
+    private static final int WARM_UP_SPANS = 3;
+
+    private final ConsumptionForecastRepository consumptionForecastRepository;
+    private final DailyConsumptionRepository dailyConsumptionRepository;
+    private final ProductRepository productRepository;
+    private final InventoryService inventoryService;
+    private final int smoothingDays;
+    private final double smoothingFactor;
+    private final int leadTimeDays;
+    private final double safetyFactor;
+    private final boolean autoApply;
+
+    public ConsumptionForecastService(ConsumptionForecastRepository consumptionForecastRepository,
+                                      DailyConsumptionRepository dailyConsumptionRepository,
+                                      ProductRepository productRepository,
+                                      InventoryService inventoryService,
+                                      @Value("${inventory.forecast.smoothing-days:28}") int smoothingDays,
+                                      @Value("${inventory.forecast.lead-time-days:2}") int leadTimeDays,
+                                      @Value("${inventory.forecast.safety-factor:1.65}") double safetyFactor,
+                                      @Value("${inventory.forecast.auto-apply:false}") boolean autoApply) {
+        this.consumptionForecastRepository = consumptionForecastRepository;
+        this.dailyConsumptionRepository = dailyConsumptionRepository;
+        this.productRepository = productRepository;
+        this.inventoryService = inventoryService;
+        this.smoothingDays = smoothingDays;
+        this.smoothingFactor = 2.0 / (smoothingDays + 1);
+        this.leadTimeDays = leadTimeDays;
+        this.safetyFactor = safetyFactor;
+        this.autoApply = autoApply;
+    }
+
+    // Every instance runs the cron; the first one to take the lock refreshes, and a later run finds the forecasts
+    // already smoothed through yesterday and the minimums unchanged.
+    @Scheduled(cron = "${inventory.forecast.cron:0 0 5 * * *}")
+    @Transactional
+    public void refreshForecasts() {
+        if (!consumptionForecastRepository.tryLockForRefresh()) {
+            log.info("Consumption forecasts are being refreshed by another instance, skipping");
+            return;
+        }
+        Map<Long, ConsumptionForecast> forecasts = consumptionForecastRepository.findAll().stream()
+                .collect(Collectors.toMap(ConsumptionForecast::getProductId, Function.identity()));
+        smoothThrough(forecasts, LocalDate.now().minusDays(1));
+        if (autoApply) {
+            applySuggestedMinimums(forecasts);
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public ConsumptionForecastDTO getForecast(Product product) {
+        return toForecastDTO(product, consumptionForecastRepository.findById(product.getId()).orElse(null));
+    }
+
+    @Transactional
+    public ConsumptionForecastDTO applySuggestedMinimum(Product product) {
+        var forecast = consumptionForecastRepository.findById(product.getId())
+                .orElseThrow(() -> new BusinessException("There is no consumption forecast for " + product.getName() + " yet!"));
+        applySuggestedMinimum(product, forecast);
+        productRepository.save(product);
+        return toForecastDTO(product, forecast);
+    }
+
+    private void smoothThrough(Map<Long, ConsumptionForecast> forecasts, LocalDate lastClosedDay) {
+        var foldAfter = forecasts.values().stream().map(ConsumptionForecast::getSmoothedThrough)
+                .min(LocalDate::compareTo)
+                .orElse(lastClosedDay.minusDays((long) WARM_UP_SPANS * smoothingDays));
+        if (!foldAfter.isBefore(lastClosedDay)) {
+            return;
+        }
+
+        Map<Long, Map<LocalDate, Long>> quantities = new HashMap<>();
+        for (DailyQuantityDTO day : dailyConsumptionRepository.sumDailyQuantities(foldAfter, lastClosedDay)) {
+            quantities.computeIfAbsent(day.productId(), id -> new HashMap<>()).put(day.date(), day.quantity());
+        }
+
+        var created = new ArrayList<ConsumptionForecast>();
+        quantities.keySet().stream().filter(productId -> !forecasts.containsKey(productId)).forEach(productId -> {
+            var forecast = ConsumptionForecast.builder()
+                    .productId(productId)
+                    .averageDailyQuantity(0.0)
+                    .dailyVariance(0.0)
+                    .smoothedThrough(foldAfter)
+                    .build();
+            forecasts.put(productId, forecast);
+            created.add(forecast);
+        });
+        var now = LocalDateTime.now();
+        forecasts.values().forEach(forecast -> {
+            fold(forecast, quantities.getOrDefault(forecast.getProductId(), Collections.emptyMap()), lastClosedDay);
+            forecast.setUpdatedAt(now);
+        });
+        consumptionForecastRepository.saveAll(created);
+        log.info("Consumption forecasts of {} products smoothed through {}", forecasts.size(), lastClosedDay);
+    }
+
+    private void applySuggestedMinimums(Map<Long, ConsumptionForecast> forecasts) {
+        var applied = 0;
+        for (var product : productRepository.findAllByIdIn(forecasts.keySet())) {
+            if (applySuggestedMinimum(product, forecasts.get(product.getId()))) {
+                applied++;
+            }
+        }
+        log.info("Minimum stock of {} products updated from their consumption forecast", applied);
+    }
+
+    private boolean applySuggestedMinimum(Product product, ConsumptionForecast forecast) {
+        var suggested = suggestedMinimum(forecast);
+        if (suggested.equals(product.getMinQuantityOnStock())) {
+            return false;
+        }
+        product.setMinQuantityOnStock(suggested);
+        if (product.getInventory() != null) {
+            inventoryService.notifyOwnersIfStockIsLow(product);
+        }
+        return true;
+    }
+
+    private void fold(ConsumptionForecast forecast, Map<LocalDate, Long> quantities, LocalDate through) {
+        var mean = forecast.getAverageDailyQuantity();
+        var variance = forecast.getDailyVariance();
+        for (var day = forecast.getSmoothedThrough().plusDays(1); !day.isAfter(through); day = day.plusDays(1)) {
+            var deviation = quantities.getOrDefault(day, 0L) - mean;
+            var increment = smoothingFactor * deviation;
+            mean += increment;
+            variance = (1 - smoothingFactor) * (variance + deviation * increment);
+        }
+        forecast.setAverageDailyQuantity(mean);
+        forecast.setDailyVariance(variance);
+        forecast.setSmoothedThrough(through);
+    }
+
+    private Long suggestedMinimum(ConsumptionForecast forecast) {
+        if (forecast == null) {
+            return 0L;
+        }
+        var leadTimeDemand = forecast.getAverageDailyQuantity() * leadTimeDays;
+        var safetyStock = safetyFactor * Math.sqrt(forecast.getDailyVariance() * leadTimeDays);
+        return (long) Math.ceil(leadTimeDemand + safetyStock);
+    }
+
+    private ConsumptionForecastDTO toForecastDTO(Product product, ConsumptionForecast forecast) {
+        var currentQuantity = product.getInventory() != null ? product.getInventory().getCurrentQuantity() : null;
+        var average = forecast != null ? forecast.getAverageDailyQuantity() : null;
+        return ConsumptionForecastDTO.builder()
+                .productId(product.getId())
+                .productName(product.getName())
+                .averageDailyConsumption(average)
+                .dailyDeviation(forecast != null ? Math.sqrt(forecast.getDailyVariance()) : null)
+                .forecastThrough(forecast != null ? forecast.getSmoothedThrough() : null)
+                .currentQuantity(currentQuantity)
+                .daysOfCover(average != null && average > 0 && currentQuantity != null ? currentQuantity / average : null)
+                .minQuantityOnStock(product.getMinQuantityOnStock())
+                .suggestedMinQuantityOnStock(suggestedMinimum(forecast))
+                .build();
+    }
+}
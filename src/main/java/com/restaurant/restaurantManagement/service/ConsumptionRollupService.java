@@ -0,0 +1,104 @@
+package com.restaurant.restaurantManagement.service;
+
+import com.restaurant.restaurantManagement.enums.TransactionMotivation;
+import com.restaurant.restaurantManagement.enums.TransactionType;
+import com.restaurant.restaurantManagement.exception.BusinessException;
+import com.restaurant.restaurantManagement.model.dto.inventoryTransaction.ConsumptionSummaryDTO;
+import com.restaurant.restaurantManagement.model.dto.inventoryTransaction.DailyConsumptionDTO;
+import com.restaurant.restaurantManagement.model.entity.DailyConsumption;
+import com.restaurant.restaurantManagement.model.entity.InventoryTransaction;
+import com.restaurant.restaurantManagement.repository.DailyConsumptionRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+@RequiredArgsConstructor
+@Service
+public class ConsumptionRollupService {
+
+    private static final int DEFAULT_PERIOD_DAYS = 30;
+    private static final Comparator<DailyConsumption.Key> KEY_ORDER = Comparator
+            .comparing(DailyConsumption.Key::getProductId)
+            .thenComparing(DailyConsumption.Key::getConsumptionDate)
+            .thenComparing(DailyConsumption.Key::getMotivation);
+    // Opening balances and count corrections move stock without anything being consumed.
+    private static final Set<TransactionMotivation> STOCK_CORRECTIONS =
+            EnumSet.of(TransactionMotivation.OPENING_BALANCE, TransactionMotivation.ADJUSTMENT);
+
+    private final DailyConsumptionRepository dailyConsumptionRepository;
+
+    @Transactional
+    public void record(Collection<InventoryTransaction> transactions) {
+        Map<DailyConsumption.Key, DailyConsumption> increments = new TreeMap<>(KEY_ORDER);
+        for (var transaction : transactions) {
+            if (transaction.getType() != TransactionType.OUTBOUND || STOCK_CORRECTIONS.contains(transaction.getMotivation())) {
+                continue;
+            }
+            var motivation = transaction.getMotivation() != null ? transaction.getMotivation() : TransactionMotivation.CONSUMPTION;
+            var key = new DailyConsumption.Key(transaction.getProduct().getId(),
+                    transaction.getTransactionDateAndTime().toLocalDate(), motivation);
+            increments.merge(key, toIncrement(key, transaction), this::add);
+        }
+
+        increments.values().forEach(increment -> dailyConsumptionRepository.addConsumption(increment.getProductId(),
+                increment.getConsumptionDate(), increment.getMotivation().name(), increment.getQuantity(),
+                increment.getTotalValue(), increment.getTransactionCount()));
+    }
+
+    @Transactional(readOnly = true)
+    public List<DailyConsumptionDTO> getDailyConsumption(Long productId, LocalDate from, LocalDate to, TransactionMotivation motivation) {
+        var toDate = to != null ? to : LocalDate.now();
+        var fromDate = from != null ? from : toDate.minusDays(DEFAULT_PERIOD_DAYS - 1);
+        validateRange(fromDate, toDate);
+        return motivation != null
+                ? dailyConsumptionRepository.findDailyByMotivation(productId, fromDate, toDate, motivation)
+                : dailyConsumptionRepository.findDaily(productId, fromDate, toDate);
+    }
+
+    @Transactional(readOnly = true)
+    public List<ConsumptionSummaryDTO> getConsumptionSummary(LocalDate from, LocalDate to, TransactionMotivation motivation) {
+        var toDate = to != null ? to : LocalDate.now();
+        var fromDate = from != null ? from : toDate.minusDays(DEFAULT_PERIOD_DAYS - 1);
+        validateRange(fromDate, toDate);
+        return motivation != null
+                ? dailyConsumptionRepository.summarizeByMotivation(fromDate, toDate, motivation)
+                : dailyConsumptionRepository.summarize(fromDate, toDate);
+    }
+
+    private void validateRange(LocalDate from, LocalDate to) {
+        if (from.isAfter(to)) {
+            throw new BusinessException("The start date can't be after the end date!");
+        }
+    }
+
+    private DailyConsumption toIncrement(DailyConsumption.Key key, InventoryTransaction transaction) {
+        var value = transaction.getUnitPrice() != null
+                ? transaction.getUnitPrice().multiply(BigDecimal.valueOf(transaction.getQuantity()))
+                : BigDecimal.ZERO;
+        return DailyConsumption.builder()
+                .productId(key.getProductId())
+                .consumptionDate(key.getConsumptionDate())
+                .motivation(key.getMotivation())
+                .quantity(transaction.getQuantity())
+                .totalValue(value)
+                .transactionCount(1L)
+                .build();
+    }
+
+    private DailyConsumption add(DailyConsumption current, DailyConsumption increment) {
+        current.setQuantity(current.getQuantity() + increment.getQuantity());
+        current.setTotalValue(current.getTotalValue().add(increment.getTotalValue()));
+        current.setTransactionCount(current.getTransactionCount() + increment.getTransactionCount());
+        return current;
+    }
+}
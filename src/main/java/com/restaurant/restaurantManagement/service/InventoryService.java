@@ -1,36 +1,44 @@
 package com.restaurant.restaurantManagement.service;
 
 import com.restaurant.restaurantManagement.enums.ProductCategory;
+import com.restaurant.restaurantManagement.enums.TransactionMotivation;
 import com.restaurant.restaurantManagement.enums.TransactionType;
-import com.restaurant.restaurantManagement.enums.UserProfile;
+import com.restaurant.restaurantManagement.events.LowStockEvent;
 import com.restaurant.restaurantManagement.exception.BusinessException;
 import com.restaurant.restaurantManagement.exception.ResourceNotFoundException;
 import com.restaurant.restaurantManagement.model.dto.inventory.GetInventoryDTO;
-import com.restaurant.restaurantManagement.model.entity.Inventory;
+import com.restaurant.restaurantManagement.model.entity.InventoryTransaction;
 import com.restaurant.restaurantManagement.model.entity.Product;
-import com.restaurant.restaurantManagement.model.entity.User;
 import com.restaurant.restaurantManagement.model.mapper.InventoryMapper;
 import com.restaurant.restaurantManagement.repository.InventoryRepository;
-import com.restaurant.restaurantManagement.repository.ProductRepository;
+import com.restaurant.restaurantManagement.repository.InventoryTransactionRepository;
+import com.restaurant.restaurantManagement.repository.StockAlertStateRepository;
 import com.restaurant.restaurantManagement.repository.UserRepository;
-import com.restaurant.restaurantManagement.service.notification.EmailService;
-import com.restaurant.restaurantManagement.service.notification.WhatsappService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Duration;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
 @RequiredArgsConstructor
 @Service
 public class InventoryService {
 
     private final InventoryRepository inventoryRepository;
-    private final UserRepository userRepository;
+    private final InventoryTransactionRepository inventoryTransactionRepository;
     private final InventoryMapper inventoryMapper;
-    private final ProductRepository productRepository;
-    private final EmailService emailService;
-    public final WhatsappService whatsappService;
+    private final StockAlertStateRepository stockAlertStateRepository;
+    private final UserRepository userRepository;
+    private final ConsumptionRollupService consumptionRollupService;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Value("${notification.low-stock.reminder-interval:0s}")
+    private Duration lowStockReminderInterval;
 
     public GetInventoryDTO getInventoryByProductName(String productName) {
         return inventoryRepository.findByProductName(productName).map(inventoryMapper::toGetInventoryDTO)
@@ -45,50 +53,123 @@ public class InventoryService {
         return inventoryRepository.findWithLowStock().stream().map(inventoryMapper::toGetInventoryDTO).toList();
     }
 
+    // Every stock write below also books its delta on the ledger, so the ledger alone can rebuild the inventory.
+
     @Transactional
-    public GetInventoryDTO increaseStock(Product product, Long amount) {
-        Long updatedStock = product.getCurrentStock() + amount;
-        updateStock(product, updatedStock);
-        Inventory updatedInventory = inventoryRepository.findByProduct(product)
-                .orElseThrow(() -> new ResourceNotFoundException("Inventory not found."));
-        return inventoryMapper.toGetInventoryDTO(updatedInventory);
+    public GetInventoryDTO increaseStock(Product product, Long amount, String userEmail) {
+        moveStock(product, requirePositive(amount), TransactionMotivation.REPLENISHMENT, "Inbound registered on the inventory", userEmail);
+        return inventoryMapper.toGetInventoryDTO(product.getInventory());
     }
 
     @Transactional
-    public GetInventoryDTO decreaseStock(Product product, Long quantity) {
-        Long updatedStock = product.getCurrentStock() - quantity;
-        if (updatedStock < 0) {
-            throw new BusinessException("The stock can't be negative!");
+    public GetInventoryDTO decreaseStock(Product product, Long quantity, String userEmail) {
+        moveStock(product, -requirePositive(quantity), TransactionMotivation.CONSUMPTION, "Outbound registered on the inventory", userEmail);
+        return inventoryMapper.toGetInventoryDTO(product.getInventory());
+    }
+
+    @Transactional
+    public void openStock(Product product, Long openingStock) {
+        if (openingStock == null || openingStock == 0) {
+            return;
         }
-        updateStock(product, updatedStock);
-        Inventory updatedInventory = inventoryRepository.findByProduct(product)
-                .orElseThrow(() -> new ResourceNotFoundException("Inventory not found."));
-        return inventoryMapper.toGetInventoryDTO(updatedInventory);
+        applyStockDelta(product, openingStock);
+        inventoryTransactionRepository.save(ledgerRow(product, openingStock, TransactionMotivation.OPENING_BALANCE,
+                "Opening balance", LocalDateTime.now()));
     }
 
     @Transactional
     public void updateStock(Product product, Long newStock) {
-        product.setCurrentStock(newStock);
-
-        if (newStock <= product.getMinQuantityOnStock()) {
-            notifyOwnersIfStockIsLow(product);
+        if (newStock < 0) {
+            throw new BusinessException("The stock can't be negative!");
+        }
+        var now = LocalDateTime.now();
+        var previousStock = inventoryRepository.replaceQuantity(product.getId(), newStock, now)
+                .orElseThrow(() -> new ResourceNotFoundException("Inventory not found."));
+        refreshInventory(product, newStock, now);
+        if (!previousStock.equals(newStock)) {
+            inventoryTransactionRepository.save(ledgerRow(product, newStock - previousStock, TransactionMotivation.ADJUSTMENT,
+                    "Stock count correction", now));
         }
-        productRepository.save(product);
+        notifyOwnersIfStockIsLow(product);
     }
 
-    public void notifyOwnersIfStockIsLow(Product product) {
-        if (product.getCurrentStock() <= product.getMinQuantityOnStock()) {
-            List<User> owners = userRepository.findByProfile(UserProfile.OWNER);
+    public Optional<Long> tryApplyStockDelta(Product product, Long delta) {
+        return tryApplyStockDelta(product, delta, Math.min(delta, 0));
+    }
 
-            for (User owner : owners) {
-                var subject = "Low Stock: " + product.getName();
-                var message = "The stock of the product " + product.getName() + " is below the minimum amount.\n" +
-                        "Current stock: " + product.getCurrentStock() + "\n" +
-                        "Minimum stock: " + product.getMinQuantityOnStock();
+    public Optional<Long> tryApplyStockDelta(Product product, Long delta, Long lowestRunningDelta) {
+        var now = LocalDateTime.now();
+        var updatedStock = inventoryRepository.applyQuantityDelta(product.getId(), delta, lowestRunningDelta, now);
+        updatedStock.ifPresent(stock -> {
+            refreshInventory(product, stock, now);
 
-                emailService.sendEmail(owner.getEmail(), subject, message);
-                whatsappService.sendWhatsAppMessage(owner.getPhone(), message);
+            var minimum = product.getMinQuantityOnStock();
+            if (stock <= minimum || stock - delta <= minimum) {
+                notifyOwnersIfStockIsLow(product);
             }
+        });
+        return updatedStock;
+    }
+
+    private void applyStockDelta(Product product, Long delta) {
+        tryApplyStockDelta(product, delta).orElseThrow(() -> new BusinessException("The stock can't be negative!"));
+    }
+
+    // Kitchen inbounds and outbounds are real movements: booked with who made them and rolled up like registered transactions.
+    private void moveStock(Product product, Long delta, TransactionMotivation motivation, String details, String userEmail) {
+        var responsible = userRepository.findByEmail(userEmail)
+                .orElseThrow(() -> new ResourceNotFoundException("User not found: " + userEmail));
+        applyStockDelta(product, delta);
+        var transaction = ledgerRow(product, delta, motivation, details, LocalDateTime.now());
+        transaction.setResponsible(responsible);
+        inventoryTransactionRepository.save(transaction);
+        consumptionRollupService.record(List.of(transaction));
+    }
+
+    private Long requirePositive(Long quantity) {
+        if (quantity == null || quantity <= 0) {
+            throw new BusinessException("The quantity must be positive!");
+        }
+        return quantity;
+    }
+
+    static InventoryTransaction ledgerRow(Product product, Long delta, TransactionMotivation motivation, String details,
+                                          LocalDateTime at) {
+        return InventoryTransaction.builder()
+                .product(product)
+                .type(delta > 0 ? TransactionType.INBOUND : TransactionType.OUTBOUND)
+                .quantity(Math.abs(delta))
+                .measurementUnit(product.getMeasurementUnit())
+                .unitPrice(product.getPrice())
+                .motivation(motivation)
+                .details(details)
+                .transactionDateAndTime(at)
+                .build();
+    }
+
+    private void refreshInventory(Product product, Long stock, LocalDateTime updatedAt) {
+        var inventory = product.getInventory();
+        if (inventory == null) {
+            inventory = inventoryRepository.findByProduct(product)
+                    .orElseThrow(() -> new ResourceNotFoundException("Inventory not found."));
+            product.setInventory(inventory);
+        }
+        inventory.setCurrentQuantity(stock);
+        inventory.setLastUpdatedAt(updatedAt);
+    }
+
+    public void notifyOwnersIfStockIsLow(Product product) {
+        var currentStock = product.getInventory().getCurrentQuantity();
+        if (currentStock > product.getMinQuantityOnStock()) {
+            stockAlertStateRepository.rearm(product.getId());
+            return;
+        }
+
+        var now = LocalDateTime.now();
+        var remindBefore = lowStockReminderInterval.isZero() ? null : now.minus(lowStockReminderInterval);
+        if (stockAlertStateRepository.tryFire(product.getId(), now, remindBefore) > 0) {
+            eventPublisher.publishEvent(new LowStockEvent(product.getId(), product.getName(),
+                    currentStock, product.getMinQuantityOnStock()));
         }
     }
 
@@ -96,9 +177,10 @@ public class InventoryService {
         if (quantity <= 0) {
             throw new BusinessException("A quantidade deve ser positiva.");
         }
+        // the caller books the transaction itself, so only the inventory moves here
         switch (type) {
-            case INBOUND -> increaseStock(product, quantity);
-            case OUTBOUND -> decreaseStock(product, quantity);
+            case INBOUND -> applyStockDelta(product, quantity);
+            case OUTBOUND -> applyStockDelta(product, -quantity);
             default -> throw new BusinessException("Tipo de transação inválido: " + type);
         }
     }
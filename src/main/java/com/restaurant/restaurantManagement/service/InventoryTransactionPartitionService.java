@@ -0,0 +1,188 @@
+package com.restaurant.restaurantManagement.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Optional;
+import java.util.regex.Pattern;
+import java.util.zip.GZIPOutputStream;
+
+@Slf4j
+@Service
+public class InventoryTransactionPartitionService {
+
+    private static final Pattern PARTITION_NAME = Pattern.compile("inventory_transaction_(\\d{4})_(\\d{2})");
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int premadeMonths;
+    private final int retentionMonths;
+    private final Path archiveDirectory;
+
+    public InventoryTransactionPartitionService(JdbcTemplate jdbcTemplate,
+                                                @Value("${inventory.partitions.premade-months:3}") int premadeMonths,
+                                                @Value("${inventory.partitions.retention-months:24}") int retentionMonths,
+                                                @Value("${inventory.partitions.archive-dir:archive/inventory-transactions}") Path archiveDirectory) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.premadeMonths = premadeMonths;
+        this.retentionMonths = retentionMonths;
+        this.archiveDirectory = archiveDirectory;
+    }
+
+    // Startup only makes sure this month and the next take inserts; archival is left to the nightly run.
+    @EventListener(ApplicationReadyEvent.class)
+    public void ensureCurrentPartitions() {
+        var currentMonth = YearMonth.now();
+        ensurePartition(currentMonth);
+        ensurePartition(currentMonth.plusMonths(1));
+    }
+
+    @Scheduled(cron = "${inventory.partitions.maintenance-cron:0 0 4 * * *}")
+    public void maintainPartitions() {
+        createUpcomingPartitions();
+        rehomeDefaultPartitionRows();
+        archiveExpiredPartitions();
+    }
+
+    public void createUpcomingPartitions() {
+        var currentMonth = YearMonth.now();
+        for (int offset = 0; offset <= premadeMonths; offset++) {
+            ensurePartition(currentMonth.plusMonths(offset));
+        }
+    }
+
+    // Transactions dated in a month without a partition land in the default one; creating the month moves them in.
+    public void rehomeDefaultPartitionRows() {
+        var months = jdbcTemplate.queryForList("""
+                SELECT DISTINCT date_trunc('month', transaction_date_and_time)::DATE FROM inventory_transaction_default
+                ORDER BY 1
+                """, LocalDate.class);
+        for (var month : months.stream().map(YearMonth::from).toList()) {
+            if (retentionMonths > 0 && month.isBefore(YearMonth.now().minusMonths(retentionMonths))) {
+                log.warn("Keeping inventory transactions of {} in the default partition, that month is already archived", month);
+            } else {
+                ensurePartition(month);
+            }
+        }
+    }
+
+    private void ensurePartition(YearMonth month) {
+        var created = jdbcTemplate.queryForObject("SELECT ensure_inventory_transaction_partition(?)", Boolean.class, month.atDay(1));
+        if (Boolean.TRUE.equals(created)) {
+            log.info("Created inventory transaction partition for {}", month);
+        }
+    }
+
+    public void archiveExpiredPartitions() {
+        if (retentionMonths <= 0) {
+            return;
+        }
+        var oldestRetainedMonth = YearMonth.now().minusMonths(retentionMonths);
+        for (var partition : attachedPartitions()) {
+            var expired = monthOf(partition).filter(month -> month.isBefore(oldestRetainedMonth)).isPresent();
+            if (expired) {
+                detach(partition);
+            }
+        }
+        detachedPartitions().forEach(this::archive);
+    }
+
+    private void detach(String partition) {
+        var uncoveredProducts = jdbcTemplate.queryForObject("""
+                SELECT COUNT(*) FROM (
+                    SELECT product_id, MAX(transaction_date_and_time) AS last_transaction_at FROM %s
+                    WHERE product_id IS NOT NULL GROUP BY product_id) p
+                WHERE NOT EXISTS (SELECT 1 FROM stock_snapshot s
+                                  WHERE s.product_id = p.product_id AND s.last_transaction_at >= p.last_transaction_at)
+                """.formatted(partition), Long.class);
+        if (uncoveredProducts != null && uncoveredProducts > 0) {
+            log.warn("Not archiving {}: {} products have no stock snapshot covering it yet", partition, uncoveredProducts);
+            return;
+        }
+        try {
+            jdbcTemplate.execute("ALTER TABLE inventory_transaction DETACH PARTITION " + partition);
+            log.info("Detached expired inventory transaction partition {}", partition);
+        } catch (DataAccessException exception) {
+            log.warn("Could not detach {}, it will be retried on the next run", partition, exception);
+        }
+    }
+
+    private void archive(String partition) {
+        try {
+            Files.createDirectories(archiveDirectory);
+            var target = archiveDirectory.resolve(partition + ".csv.gz");
+            var temporary = Files.createTempFile(archiveDirectory, partition, ".tmp");
+            long rows;
+            try {
+                try (var channel = FileChannel.open(temporary, StandardOpenOption.WRITE);
+                     var output = new GZIPOutputStream(Channels.newOutputStream(channel), BUFFER_SIZE)) {
+                    rows = copyOut(partition, output);
+                    output.finish();
+                    channel.force(true);
+                }
+                Files.move(temporary, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } finally {
+                Files.deleteIfExists(temporary);
+            }
+            jdbcTemplate.execute("DROP TABLE " + partition);
+            log.info("Archived {} inventory transactions of {} to {}", rows, partition, target);
+        } catch (IOException | UncheckedIOException | DataAccessException exception) {
+            log.warn("Could not archive {}, it will be retried on the next run", partition, exception);
+        }
+    }
+
+    private long copyOut(String partition, OutputStream output) {
+        var copySql = "COPY (SELECT * FROM " + partition + " ORDER BY transaction_date_and_time, id) TO STDOUT WITH (FORMAT csv, HEADER)";
+        return jdbcTemplate.execute((ConnectionCallback<Long>) connection -> {
+            try {
+                return connection.unwrap(PGConnection.class).getCopyAPI().copyOut(copySql, output);
+            } catch (IOException exception) {
+                throw new UncheckedIOException(exception);
+            }
+        });
+    }
+
+    private List<String> attachedPartitions() {
+        return jdbcTemplate.queryForList("""
+                SELECT c.relname FROM pg_inherits i JOIN pg_class c ON c.oid = i.inhrelid
+                WHERE i.inhparent = 'inventory_transaction'::regclass
+                ORDER BY c.relname
+                """, String.class).stream().filter(name -> PARTITION_NAME.matcher(name).matches()).toList();
+    }
+
+    private List<String> detachedPartitions() {
+        return jdbcTemplate.queryForList("""
+                SELECT c.relname FROM pg_class c JOIN pg_namespace n ON n.oid = c.relnamespace
+                WHERE n.nspname = current_schema() AND c.relkind = 'r' AND NOT c.relispartition
+                  AND c.relname ~ '^inventory_transaction_[0-9]{4}_[0-9]{2}$'
+                ORDER BY c.relname
+                """, String.class);
+    }
+
+    private Optional<YearMonth> monthOf(String partition) {
+        var matcher = PARTITION_NAME.matcher(partition);
+        return matcher.matches()
+                ? Optional.of(YearMonth.of(Integer.parseInt(matcher.group(1)), Integer.parseInt(matcher.group(2))))
+                : Optional.empty();
+    }
+}
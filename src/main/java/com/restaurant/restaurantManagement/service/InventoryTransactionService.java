@@ -1,9 +1,14 @@
 package com.restaurant.restaurantManagement.service;
 
+import com.restaurant.restaurantManagement.enums.BatchTransactionMode;
 import com.restaurant.restaurantManagement.enums.TransactionType;
 import com.restaurant.restaurantManagement.exception.BusinessException;
 import com.restaurant.restaurantManagement.exception.ResourceNotFoundException;
+import com.restaurant.restaurantManagement.model.dto.inventoryTransaction.BatchTransactionResultDTO;
 import com.restaurant.restaurantManagement.model.dto.inventoryTransaction.GetInventoryTransactionDTO;
+import com.restaurant.restaurantManagement.model.dto.inventoryTransaction.TransactionCursor;
+import com.restaurant.restaurantManagement.model.dto.inventoryTransaction.TransactionHistoryRowDTO;
+import com.restaurant.restaurantManagement.model.dto.inventoryTransaction.TransactionPageDTO;
 import com.restaurant.restaurantManagement.model.entity.InventoryTransaction;
 import com.restaurant.restaurantManagement.model.entity.Product;
 import com.restaurant.restaurantManagement.model.entity.User;
@@ -12,30 +17,46 @@ import com.restaurant.restaurantManagement.repository.InventoryTransactionReposi
 import com.restaurant.restaurantManagement.repository.ProductRepository;
 import com.restaurant.restaurantManagement.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @RequiredArgsConstructor
 @Service
 public class InventoryTransactionService {
 
+    private static final int MAX_BATCH_LINES = 1000;
+    private static final int MAX_PAGE_SIZE = 500;
+    private static final LocalDateTime MIN_HISTORY_DATE = LocalDateTime.of(1900, 1, 1, 0, 0);
+    private static final LocalDateTime MAX_HISTORY_DATE = LocalDateTime.of(9999, 12, 31, 0, 0);
+
     private final InventoryTransactionRepository inventoryTransactionRepository;
     private final InventoryTransactionMapper inventoryTransactionMapper;
     private final UserRepository userRepository;
     private final ProductRepository productRepository;
     private final InventoryService inventoryService;
+    private final ConsumptionRollupService consumptionRollupService;
 
-    public List<GetInventoryTransactionDTO> getTransactionsByProductId(Long productId) {
-        return inventoryTransactionRepository.findByProductId(productId).stream()
-                .map(inventoryTransactionMapper::toGetInventoryTransactionDTO).toList();
+    @Transactional(readOnly = true)
+    public TransactionPageDTO getTransactionsByProductId(Long productId, LocalDateTime from, LocalDateTime to, String cursor, int size) {
+        return findPage(from, to, cursor, size, (fromDate, beforeDate, beforeId, limit) ->
+                inventoryTransactionRepository.findPageByProductId(productId, fromDate, beforeDate, beforeId, limit));
     }
 
-    public List<GetInventoryTransactionDTO> getTransactionsByResponsibleId(Long responsibleId) {
-        return inventoryTransactionRepository.findByResponsibleId(responsibleId).stream()
-                .map(inventoryTransactionMapper::toGetInventoryTransactionDTO).toList();
+    @Transactional(readOnly = true)
+    public TransactionPageDTO getTransactionsByResponsibleId(Long responsibleId, LocalDateTime from, LocalDateTime to, String cursor, int size) {
+        return findPage(from, to, cursor, size, (fromDate, beforeDate, beforeId, limit) ->
+                inventoryTransactionRepository.findPageByResponsibleId(responsibleId, fromDate, beforeDate, beforeId, limit));
     }
 
     @Transactional
@@ -53,7 +74,158 @@ public class InventoryTransactionService {
         inventoryService.processTransaction(product, transactionDTO.transactionType(), transactionDTO.quantity());
         var transaction = buildTransaction(product, user, transactionDTO);
         inventoryTransactionRepository.save(transaction);
+        consumptionRollupService.record(List.of(transaction));
+    }
+
+    @Transactional
+    public BatchTransactionResultDTO registerTransactions(List<GetInventoryTransactionDTO> transactionDTOs, BatchTransactionMode mode) {
+        if (transactionDTOs == null || transactionDTOs.isEmpty()) {
+            throw new BusinessException("The batch must contain at least one transaction!");
+        }
+        if (transactionDTOs.size() > MAX_BATCH_LINES) {
+            throw new BusinessException("The batch can't contain more than " + MAX_BATCH_LINES + " transactions!");
+        }
+
+        var productIds = transactionDTOs.stream().map(dto -> dto.product() != null ? dto.product().id() : null)
+                .filter(Objects::nonNull).collect(Collectors.toSet());
+        var responsibleIds = transactionDTOs.stream().map(dto -> dto.responsible() != null ? dto.responsible().id() : null)
+                .filter(Objects::nonNull).collect(Collectors.toSet());
+        Map<Long, Product> products = productRepository.findAllById(productIds).stream()
+                .collect(Collectors.toMap(Product::getId, Function.identity()));
+        Map<Long, User> responsibles = userRepository.findAllById(responsibleIds).stream()
+                .collect(Collectors.toMap(User::getId, Function.identity()));
+
+        return mode == BatchTransactionMode.PER_LINE
+                ? registerEachLine(transactionDTOs, products, responsibles)
+                : registerAllOrNothing(transactionDTOs, products, responsibles);
+    }
+
+    private BatchTransactionResultDTO registerAllOrNothing(List<GetInventoryTransactionDTO> transactionDTOs,
+                                                           Map<Long, Product> products, Map<Long, User> responsibles) {
+        Map<Long, Long> netDeltas = new LinkedHashMap<>();
+        Map<Long, Long> lowestRunningDeltas = new HashMap<>();
+        List<InventoryTransaction> transactions = new ArrayList<>();
+        for (int line = 0; line < transactionDTOs.size(); line++) {
+            var dto = transactionDTOs.get(line);
+            var error = validateLine(dto, products, responsibles);
+            if (error != null) {
+                throw new BusinessException("Line " + line + ": " + error);
+            }
+            var product = products.get(dto.product().id());
+            var runningDelta = netDeltas.merge(product.getId(), signedQuantity(dto), Long::sum);
+            lowestRunningDeltas.merge(product.getId(), Math.min(runningDelta, 0), Math::min);
+            transactions.add(buildTransaction(product, responsibles.get(dto.responsible().id()), dto));
+        }
+
+        netDeltas.forEach((productId, delta) -> {
+            var product = products.get(productId);
+            inventoryService.tryApplyStockDelta(product, delta, lowestRunningDeltas.get(productId))
+                    .orElseThrow(() -> new BusinessException("The stock of " + product.getName() + " can't be negative at any line of the batch!"));
+        });
+        inventoryTransactionRepository.saveAll(transactions);
+        consumptionRollupService.record(transactions);
+
+        var lines = new ArrayList<BatchTransactionResultDTO.LineResultDTO>();
+        for (int line = 0; line < transactionDTOs.size(); line++) {
+            var product = products.get(transactionDTOs.get(line).product().id());
+            lines.add(lineResult(line, product.getId(), product.getInventory().getCurrentQuantity(), null));
+        }
+        return buildBatchResult(BatchTransactionMode.ALL_OR_NOTHING, lines);
+    }
+
+    private BatchTransactionResultDTO registerEachLine(List<GetInventoryTransactionDTO> transactionDTOs,
+                                                       Map<Long, Product> products, Map<Long, User> responsibles) {
+        List<InventoryTransaction> transactions = new ArrayList<>();
+        var lines = new ArrayList<BatchTransactionResultDTO.LineResultDTO>();
+        for (int line = 0; line < transactionDTOs.size(); line++) {
+            var dto = transactionDTOs.get(line);
+            var productId = dto.product() != null ? dto.product().id() : null;
+            var error = validateLine(dto, products, responsibles);
+            if (error != null) {
+                lines.add(lineResult(line, productId, null, error));
+                continue;
+            }
+
+            var product = products.get(productId);
+            var updatedStock = inventoryService.tryApplyStockDelta(product, signedQuantity(dto));
+            if (updatedStock.isEmpty()) {
+                lines.add(lineResult(line, productId, product.getInventory().getCurrentQuantity(), "The stock can't be negative!"));
+                continue;
+            }
+            transactions.add(buildTransaction(product, responsibles.get(dto.responsible().id()), dto));
+            lines.add(lineResult(line, productId, updatedStock.get(), null));
+        }
+
+        inventoryTransactionRepository.saveAll(transactions);
+        consumptionRollupService.record(transactions);
+        return buildBatchResult(BatchTransactionMode.PER_LINE, lines);
+    }
+
+    private TransactionPageDTO findPage(LocalDateTime from, LocalDateTime to, String cursor, int size, PageQuery query) {
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new BusinessException("The page size must be between 1 and " + MAX_PAGE_SIZE + "!");
+        }
+        var fromDate = from != null ? from : MIN_HISTORY_DATE;
+        var toDate = to != null ? to : MAX_HISTORY_DATE;
+        if (!fromDate.isBefore(toDate)) {
+            throw new BusinessException("The start date must be before the end date!");
+        }
+
+        var position = cursor != null ? TransactionCursor.decode(cursor) : null;
+        if (position == null || position.transactionDateAndTime().isAfter(toDate)) {
+            position = new TransactionCursor(toDate, Long.MIN_VALUE);
+        }
 
+        var rows = query.find(fromDate, position.transactionDateAndTime(), position.id(), Limit.of(size + 1));
+        var hasNext = rows.size() > size;
+        var page = hasNext ? rows.subList(0, size) : rows;
+        var last = page.isEmpty() ? null : page.getLast();
+        return TransactionPageDTO.builder()
+                .content(page.stream().map(inventoryTransactionMapper::toGetInventoryTransactionDTO).toList())
+                .size(page.size())
+                .hasNext(hasNext)
+                .nextCursor(hasNext ? new TransactionCursor(last.transactionDateAndTime(), last.id()).encode() : null)
+                .build();
+    }
+
+    private String validateLine(GetInventoryTransactionDTO dto, Map<Long, Product> products, Map<Long, User> responsibles) {
+        if (dto.product() == null || !products.containsKey(dto.product().id())) {
+            return "Product not found: " + (dto.product() != null ? dto.product().id() : null);
+        }
+        if (dto.responsible() == null || !responsibles.containsKey(dto.responsible().id())) {
+            return "User not found: " + (dto.responsible() != null ? dto.responsible().id() : null);
+        }
+        if (dto.transactionType() == null) {
+            return "The transaction type is required!";
+        }
+        if (dto.quantity() == null || dto.quantity() <= 0) {
+            return "The quantity must be positive!";
+        }
+        return null;
+    }
+
+    private Long signedQuantity(GetInventoryTransactionDTO dto) {
+        return dto.transactionType() == TransactionType.INBOUND ? dto.quantity() : -dto.quantity();
+    }
+
+    private BatchTransactionResultDTO.LineResultDTO lineResult(int line, Long productId, Long currentStock, String error) {
+        return BatchTransactionResultDTO.LineResultDTO.builder()
+                .line(line)
+                .productId(productId)
+                .registered(error == null)
+                .currentStock(currentStock)
+                .error(error)
+                .build();
+    }
+
+    private BatchTransactionResultDTO buildBatchResult(BatchTransactionMode mode, List<BatchTransactionResultDTO.LineResultDTO> lines) {
+        var registered = (int) lines.stream().filter(BatchTransactionResultDTO.LineResultDTO::registered).count();
+        return BatchTransactionResultDTO.builder()
+                .mode(mode)
+                .registered(registered)
+                .rejected(lines.size() - registered)
+                .lines(lines)
+                .build();
     }
 
     private InventoryTransaction buildTransaction(Product product, User responsible, GetInventoryTransactionDTO dto) {
@@ -69,4 +241,9 @@ public class InventoryTransactionService {
                 .transactionDateAndTime(LocalDateTime.now())
                 .build();
     }
+
+    @FunctionalInterface
+    private interface PageQuery {
+        List<TransactionHistoryRowDTO> find(LocalDateTime from, LocalDateTime beforeDate, Long beforeId, Limit limit);
+    }
 }
@@ -0,0 +1,118 @@
+package com.restaurant.restaurantManagement.service;
+
+import com.restaurant.restaurantManagement.events.ProductChangedEvent;
+import com.restaurant.restaurantManagement.model.dto.product.ProductNameDTO;
+import com.restaurant.restaurantManagement.repository.ProductRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.regex.Pattern;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProductNameIndex {
+
+    private static final char KEY_SEPARATOR = '\u0000';
+    private static final Pattern DIACRITICS = Pattern.compile("\\p{M}+");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private final ProductRepository productRepository;
+
+    private volatile Snapshot snapshot;
+
+    public List<ProductNameDTO> findByPrefix(String prefix, int limit) {
+        var normalizedPrefix = normalize(prefix);
+        var matches = new ArrayList<ProductNameDTO>(limit);
+        if (normalizedPrefix.isEmpty()) {
+            return matches;
+        }
+        for (var entry : loadedSnapshot().byKey().tailMap(normalizedPrefix).entrySet()) {
+            if (matches.size() == limit || !entry.getKey().startsWith(normalizedPrefix)) {
+                break;
+            }
+            matches.add(entry.getValue());
+        }
+        return matches;
+    }
+
+    public Optional<Long> findIdByName(String name) {
+        return Optional.ofNullable(loadedSnapshot().idsByName().get(name.toLowerCase(Locale.ROOT)));
+    }
+
+    @Scheduled(initialDelayString = "0", fixedDelayString = "${product.name-index.refresh-interval:10m}")
+    public synchronized void rebuild() {
+        var rebuilt = new Snapshot(new ConcurrentSkipListMap<>(), new ConcurrentHashMap<>(), new ConcurrentHashMap<>());
+        productRepository.findAllNames().stream()
+                .filter(product -> product.name() != null)
+                .forEach(product -> put(rebuilt, product.id(), product.name()));
+        snapshot = rebuilt;
+        log.debug("Product name index rebuilt with {} products", rebuilt.keysById().size());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public synchronized void onProductChanged(ProductChangedEvent event) {
+        var current = snapshot;
+        if (current == null) {
+            return;
+        }
+        remove(current, event.productId());
+        if (event.name() != null) {
+            put(current, event.productId(), event.name());
+        }
+    }
+
+    public static String normalize(String name) {
+        if (name == null) {
+            return "";
+        }
+        var withoutAccents = DIACRITICS.matcher(Normalizer.normalize(name, Normalizer.Form.NFD)).replaceAll("");
+        return WHITESPACE.matcher(withoutAccents.trim()).replaceAll(" ").toLowerCase(Locale.ROOT);
+    }
+
+    private Snapshot loadedSnapshot() {
+        var current = snapshot;
+        if (current == null) {
+            synchronized (this) {
+                if (snapshot == null) {
+                    rebuild();
+                }
+                current = snapshot;
+            }
+        }
+        return current;
+    }
+
+    private void put(Snapshot target, Long id, String name) {
+        var key = normalize(name) + KEY_SEPARATOR + id;
+        target.byKey().put(key, new ProductNameDTO(id, name));
+        target.idsByName().put(name.toLowerCase(Locale.ROOT), id);
+        target.keysById().put(id, key);
+    }
+
+    private void remove(Snapshot target, Long id) {
+        var key = target.keysById().remove(id);
+        if (key == null) {
+            return;
+        }
+        var removed = target.byKey().remove(key);
+        target.idsByName().remove(removed.name().toLowerCase(Locale.ROOT), id);
+    }
+
+    private record Snapshot(
+            ConcurrentSkipListMap<String, ProductNameDTO> byKey,
+            ConcurrentHashMap<String, Long> idsByName,
+            ConcurrentHashMap<Long, String> keysById
+    ) {}
+}
@@ -3,37 +3,94 @@ package com.restaurant.restaurantManagement.service;
 import com.restaurant.restaurantManagement.enums.MeasurementUnit;
 import com.restaurant.restaurantManagement.enums.ProductCategory;
 import com.restaurant.restaurantManagement.enums.UserProfile;
+import com.restaurant.restaurantManagement.events.ProductChangedEvent;
 import com.restaurant.restaurantManagement.exception.BusinessException;
 import com.restaurant.restaurantManagement.exception.OperationNotAllowedException;
 import com.restaurant.restaurantManagement.exception.ResourceNotFoundException;
 import com.restaurant.restaurantManagement.model.dto.product.CreateProductDTO;
 import com.restaurant.restaurantManagement.model.dto.product.GetProductDTO;
+import com.restaurant.restaurantManagement.model.dto.product.ProductCursor;
+import com.restaurant.restaurantManagement.model.dto.product.ProductNameDTO;
+import com.restaurant.restaurantManagement.model.dto.product.ProductPageDTO;
+import com.restaurant.restaurantManagement.model.dto.product.ProductRowDTO;
 import com.restaurant.restaurantManagement.model.dto.product.UpdateProductDTO;
 import com.restaurant.restaurantManagement.model.entity.Product;
 import com.restaurant.restaurantManagement.model.mapper.ProductMapper;
 import com.restaurant.restaurantManagement.repository.ProductRepository;
+import com.restaurant.restaurantManagement.repository.ProductSpecifications;
 import com.restaurant.restaurantManagement.repository.UserRepository;
 import com.restaurant.restaurantManagement.service.notification.EmailService;
 import com.restaurant.restaurantManagement.service.notification.WhatsappService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @RequiredArgsConstructor
 @Service
 public class ProductService {
 
+    private static final int MAX_PAGE_SIZE = 500;
+    private static final int MAX_SEARCH_LIMIT = 100;
+    private static final int MAX_SUGGESTIONS = 50;
+    private static final Set<String> SORTABLE_FIELDS = Set.of("id", "name", "category", "measurementUnit", "price", "minQuantityOnStock");
+
     private final ProductRepository productRepository;
     private final ProductMapper productMapper;
     private final UserRepository userRepository;
     private final InventoryService inventoryService;
     private final EmailService emailService;
     private final WhatsappService whatsappService;
+    private final ProductNameIndex productNameIndex;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Transactional(readOnly = true)
+    public ProductPageDTO getAllProducts(Pageable pageable) {
+        for (var order : pageable.getSort()) {
+            if (!SORTABLE_FIELDS.contains(order.getProperty())) {
+                throw new BusinessException("Products can't be sorted by " + order.getProperty() + "! Allowed: " + SORTABLE_FIELDS);
+            }
+        }
+        var sort = pageable.getSort().getOrderFor("id") != null ? pageable.getSort() : pageable.getSort().and(Sort.by("id"));
+        var page = productRepository.findAllRows(PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(), sort));
+        return ProductPageDTO.builder()
+                .content(page.getContent().stream().map(productMapper::toGetProductDTO).toList())
+                .size(page.getNumberOfElements())
+                .page(page.getNumber())
+                .totalElements(page.getTotalElements())
+                .totalPages(page.getTotalPages())
+                .hasNext(page.hasNext())
+                .build();
+    }
 
-    public List<GetProductDTO> getAllProducts() {
-        return productRepository.findAll().stream().map(productMapper::toGetProductDTO).toList();
+    @Transactional(readOnly = true)
+    public ProductPageDTO getProductsAfter(String cursor, int size) {
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new BusinessException("The page size must be between 1 and " + MAX_PAGE_SIZE + "!");
+        }
+        var position = cursor != null ? ProductCursor.decode(cursor) : new ProductCursor("", Long.MIN_VALUE);
+        var rows = productRepository.findRowsAfter(position.name(), position.id(), Limit.of(size + 1));
+        var hasNext = rows.size() > size;
+        var page = hasNext ? rows.subList(0, size) : rows;
+        var last = page.isEmpty() ? null : page.getLast();
+        return ProductPageDTO.builder()
+                .content(page.stream().map(productMapper::toGetProductDTO).toList())
+                .size(page.size())
+                .hasNext(hasNext)
+                .nextCursor(hasNext ? new ProductCursor(last.name(), last.id()).encode() : null)
+                .build();
     }
 
     public GetProductDTO getProductById(Long id) {
@@ -46,7 +103,9 @@ public class ProductService {
         validateUniqueProductName(productDTO.name());
         validateMeasurementUnitByCategory(productDTO.category(), productDTO.measurementUnit());
         var productMapped = productMapper.toProduct(productDTO);
-        var productSaved = productRepository.save(productMapped);
+        var productSaved = saveWithUniqueName(productMapped);
+        inventoryService.openStock(productSaved, productDTO.inventory().currentStock());
+        eventPublisher.publishEvent(new ProductChangedEvent(productSaved.getId(), productSaved.getName()));
         return productMapper.toGetProductDTO(productSaved);
     }
 
@@ -55,16 +114,20 @@ public class ProductService {
         var product = productRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Product not found: " + id));
 
+        var minimumChanged = !product.getMinQuantityOnStock().equals(productDTO.minQuantityOnStock());
         product.setName(productDTO.name());
         product.setCategory(productDTO.category());
         product.setMeasurementUnit(productDTO.measurementUnit());
         product.setPrice(productDTO.price());
         product.setMinQuantityOnStock(productDTO.minQuantityOnStock());
-        if (!product.getCurrentStock().equals(productDTO.currentStock())) {
+        if (productDTO.currentStock() != null && !productDTO.currentStock().equals(product.getInventory().getCurrentQuantity())) {
             inventoryService.updateStock(product, productDTO.currentStock());
+        } else if (minimumChanged) {
+            inventoryService.notifyOwnersIfStockIsLow(product);
         }
 
-        var updatedProduct = productRepository.save(product);
+        var updatedProduct = saveWithUniqueName(product);
+        eventPublisher.publishEvent(new ProductChangedEvent(updatedProduct.getId(), updatedProduct.getName()));
         return productMapper.toGetProductDTO(updatedProduct);
     }
 
@@ -79,23 +142,68 @@ public class ProductService {
             throw new OperationNotAllowedException("You don't have permission to delete products!");
         }
         productRepository.delete(deletedProduct);
+        eventPublisher.publishEvent(ProductChangedEvent.deleted(id));
     }
 
     public Product getProductByName(String productName) {
-        return productRepository.findByNameIgnoreCase(productName)
+        // The name index may lag behind products written or renamed by another instance, so a hit only counts while
+        // the product still carries that name; anything else falls back to the database.
+        return productNameIndex.findIdByName(productName)
+                .flatMap(productRepository::findById)
+                .filter(product -> product.getName().equalsIgnoreCase(productName))
+                .or(() -> productRepository.findByNameIgnoreCase(productName))
                 .orElseThrow(() -> new ResourceNotFoundException("Product not found: " + productName));
     }
 
+    public List<ProductNameDTO> suggestProductNames(String prefix, int limit) {
+        if (limit < 1 || limit > MAX_SUGGESTIONS) {
+            throw new BusinessException("The suggestion limit must be between 1 and " + MAX_SUGGESTIONS + "!");
+        }
+        return productNameIndex.findByPrefix(prefix, limit);
+    }
+
+    @Transactional(readOnly = true)
     public List<GetProductDTO> searchProductsByFilter(String name, ProductCategory category, MeasurementUnit measurementUnit) {
-        return productRepository.findByFilters(name, category, measurementUnit).stream().map(productMapper::toGetProductDTO).toList();
+        return productRepository.findAll(ProductSpecifications.byFilters(name, category, measurementUnit)).stream()
+                .map(productMapper::toGetProductDTO).toList();
+    }
+
+    @Transactional(readOnly = true)
+    public List<GetProductDTO> searchProductsRanked(String name, ProductCategory category, MeasurementUnit measurementUnit, int limit) {
+        if (name == null || name.isBlank()) {
+            throw new BusinessException("The name is required for a ranked search!");
+        }
+        if (limit < 1 || limit > MAX_SEARCH_LIMIT) {
+            throw new BusinessException("The search limit must be between 1 and " + MAX_SEARCH_LIMIT + "!");
+        }
+        var term = name.trim().toLowerCase(Locale.ROOT);
+        var pattern = term.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+        var rankedIds = productRepository.searchRankedIdsByName(term, pattern,
+                category != null ? category.name() : null, measurementUnit != null ? measurementUnit.name() : null, limit);
+        if (rankedIds.isEmpty()) {
+            return List.of();
+        }
+        var rowsById = productRepository.findRowsByIds(rankedIds).stream()
+                .collect(Collectors.toMap(ProductRowDTO::id, Function.identity()));
+        return rankedIds.stream().map(rowsById::get).filter(Objects::nonNull).map(productMapper::toGetProductDTO).toList();
     }
 
     public void validateUniqueProductName(String name) {
-        if(productRepository.findByNameIgnoreCase(name).isPresent()) {
+        // Checked against the database only: a stale index entry would reject a name that is free again.
+        if (productRepository.findByNameIgnoreCase(name).isPresent()) {
             throw new BusinessException("A product with this name already exists: " + name);
         }
     }
 
+    // uk_product_name_lower is the authority on uniqueness; the checks above only give a friendlier early error.
+    private Product saveWithUniqueName(Product product) {
+        try {
+            return productRepository.saveAndFlush(product);
+        } catch (DataIntegrityViolationException exception) {
+            throw new BusinessException("A product with this name already exists: " + product.getName());
+        }
+    }
+
     public void validateMeasurementUnitByCategory(ProductCategory category, MeasurementUnit unit) {
         if (category == ProductCategory.BEVERAGES && unit != MeasurementUnit.LITER) {
             throw new BusinessException("Beverages must be measured in liters!");
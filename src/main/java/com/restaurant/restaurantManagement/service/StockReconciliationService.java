@@ -0,0 +1,51 @@
+package com.restaurant.restaurantManagement.service;
+
+import com.restaurant.restaurantManagement.exception.BusinessException;
+import com.restaurant.restaurantManagement.model.dto.inventory.StockDriftDTO;
+import com.restaurant.restaurantManagement.repository.InventoryRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Slf4j
+@RequiredArgsConstructor
+@Service
+public class StockReconciliationService {
+
+    private final InventoryRepository inventoryRepository;
+
+    @Transactional(readOnly = true)
+    public List<StockDriftDTO> findStockDrift() {
+        return toStockDriftDTOs(inventoryRepository.findStockDrift());
+    }
+
+    @Transactional
+    public List<StockDriftDTO> rebuildFromLedger() {
+        inventoryRepository.lockForReconciliation();
+        var negative = inventoryRepository.findStockDrift().stream()
+                .filter(drift -> drift.getLedgerQuantity() < 0)
+                .map(InventoryRepository.StockDrift::getProductId)
+                .toList();
+        if (!negative.isEmpty()) {
+            throw new BusinessException("The ledger sums to a negative stock for products " + negative
+                    + "; register the missing transactions before rebuilding!");
+        }
+        var rebuilt = toStockDriftDTOs(inventoryRepository.rebuildQuantitiesFromLedger(LocalDateTime.now()));
+        log.info("Rebuilt the stock of {} products from the inventory transaction ledger", rebuilt.size());
+        return rebuilt;
+    }
+
+    private List<StockDriftDTO> toStockDriftDTOs(List<InventoryRepository.StockDrift> rows) {
+        return rows.stream()
+                .map(drift -> StockDriftDTO.builder()
+                        .productId(drift.getProductId())
+                        .recordedQuantity(drift.getRecordedQuantity())
+                        .ledgerQuantity(drift.getLedgerQuantity())
+                        .build())
+                .toList();
+    }
+}
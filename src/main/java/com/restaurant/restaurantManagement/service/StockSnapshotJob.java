@@ -0,0 +1,38 @@
+package com.restaurant.restaurantManagement.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Slf4j
+@Component
+public class StockSnapshotJob {
+
+    private static final int LOGGED_DRIFT_SAMPLE = 5;
+
+    private final StockSnapshotService stockSnapshotService;
+    private final StockReconciliationService stockReconciliationService;
+    private final AtomicInteger driftedProducts;
+
+    public StockSnapshotJob(StockSnapshotService stockSnapshotService,
+                            StockReconciliationService stockReconciliationService,
+                            MeterRegistry meterRegistry) {
+        this.stockSnapshotService = stockSnapshotService;
+        this.stockReconciliationService = stockReconciliationService;
+        this.driftedProducts = meterRegistry.gauge("inventory.stock.drift.products", new AtomicInteger());
+    }
+
+    @Scheduled(cron = "${inventory.snapshot.cron:0 30 3 * * *}")
+    public void snapshotAndVerify() {
+        stockSnapshotService.takeSnapshots();
+        var drift = stockReconciliationService.findStockDrift();
+        driftedProducts.set(drift.size());
+        if (!drift.isEmpty()) {
+            log.warn("{} products have a stock that differs from the inventory transaction ledger, e.g. {}",
+                    drift.size(), drift.subList(0, Math.min(LOGGED_DRIFT_SAMPLE, drift.size())));
+        }
+    }
+}
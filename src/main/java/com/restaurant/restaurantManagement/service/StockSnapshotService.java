@@ -0,0 +1,73 @@
+package com.restaurant.restaurantManagement.service;
+
+import com.restaurant.restaurantManagement.exception.BusinessException;
+import com.restaurant.restaurantManagement.model.dto.inventory.LedgerStockDTO;
+import com.restaurant.restaurantManagement.model.entity.Product;
+import com.restaurant.restaurantManagement.model.entity.StockSnapshot;
+import com.restaurant.restaurantManagement.repository.InventoryTransactionRepository;
+import com.restaurant.restaurantManagement.repository.StockSnapshotRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+
+@Slf4j
+@RequiredArgsConstructor
+@Service
+public class StockSnapshotService {
+
+    private static final LocalDateTime LEDGER_START = LocalDateTime.of(1900, 1, 1, 0, 0);
+
+    private final StockSnapshotRepository stockSnapshotRepository;
+    private final InventoryTransactionRepository inventoryTransactionRepository;
+
+    @Value("${inventory.snapshot.settle-window:5m}")
+    private Duration settleWindow;
+
+    @Value("${inventory.partitions.retention-months:24}")
+    private int retentionMonths;
+
+    @Transactional(readOnly = true)
+    public LedgerStockDTO getLedgerStock(Product product, LocalDateTime at) {
+        var stockAt = at != null ? at : LocalDateTime.now();
+        var horizon = ledgerHorizon();
+        if (horizon != null && stockAt.isBefore(horizon)) {
+            throw new BusinessException("The ledger only goes back to " + horizon + ", older transactions are archived!");
+        }
+        var snapshot = stockSnapshotRepository
+                .findFirstByProductIdAndLastTransactionAtLessThanEqualOrderByLastTransactionAtDescLastTransactionIdDesc(product.getId(), stockAt);
+        var snapshotThrough = snapshot.map(StockSnapshot::getLastTransactionAt).orElse(null);
+        var replay = inventoryTransactionRepository.replayAfter(product.getId(),
+                snapshotThrough != null ? snapshotThrough : LEDGER_START,
+                snapshot.map(StockSnapshot::getLastTransactionId).orElse(Long.MIN_VALUE),
+                stockAt);
+        return LedgerStockDTO.builder()
+                .productId(product.getId())
+                .productName(product.getName())
+                .at(stockAt)
+                .quantity(snapshot.map(StockSnapshot::getQuantity).orElse(0L) + replay.quantity())
+                .snapshotThrough(snapshotThrough)
+                .replayedTransactions(replay.transactions())
+                .build();
+    }
+
+    // Months before the retention window are archived once snapshots cover them, so replaying a date inside
+    // them would silently miss the archived rows.
+    private LocalDateTime ledgerHorizon() {
+        return retentionMonths > 0 ? YearMonth.now().minusMonths(retentionMonths).atDay(1).atStartOfDay() : null;
+    }
+
+    @Transactional
+    public int takeSnapshots() {
+        var now = LocalDateTime.now();
+        var cutoff = now.minus(settleWindow);
+        var taken = stockSnapshotRepository.takeSnapshots(cutoff, now);
+        log.info("Took {} stock snapshots covering the ledger up to {}", taken, cutoff);
+        return taken;
+    }
+}
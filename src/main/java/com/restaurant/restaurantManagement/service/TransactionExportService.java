@@ -0,0 +1,83 @@
+package com.restaurant.restaurantManagement.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.restaurant.restaurantManagement.enums.ExportFormat;
+import com.restaurant.restaurantManagement.exception.BusinessException;
+import com.restaurant.restaurantManagement.model.dto.inventoryTransaction.TransactionExportRowDTO;
+import com.restaurant.restaurantManagement.repository.InventoryTransactionRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Objects;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+@RequiredArgsConstructor
+@Service
+public class TransactionExportService {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final LocalDateTime MIN_EXPORT_DATE = LocalDateTime.of(1900, 1, 1, 0, 0);
+    private static final LocalDateTime MAX_EXPORT_DATE = LocalDateTime.of(9999, 12, 31, 0, 0);
+    private static final String CSV_HEADER = "id,transaction_date_and_time,type,quantity,measurement_unit,unit_price,"
+            + "motivation,details,product_id,product_name,responsible_id,responsible_name";
+
+    private final InventoryTransactionRepository inventoryTransactionRepository;
+    private final ObjectMapper objectMapper;
+
+    public void validateRange(LocalDateTime from, LocalDateTime to) {
+        if (from != null && to != null && !from.isBefore(to)) {
+            throw new BusinessException("The start date must be before the end date!");
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public void exportTransactions(LocalDateTime from, LocalDateTime to, ExportFormat format, OutputStream outputStream) throws IOException {
+        var writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8), BUFFER_SIZE);
+        if (format == ExportFormat.CSV) {
+            writer.write(CSV_HEADER);
+            writer.write('\n');
+        }
+
+        try (var rows = inventoryTransactionRepository.streamForExport(
+                from != null ? from : MIN_EXPORT_DATE, to != null ? to : MAX_EXPORT_DATE)) {
+            rows.forEach(row -> writeRow(writer, row, format));
+        } catch (UncheckedIOException exception) {
+            throw exception.getCause();
+        }
+        writer.flush();
+    }
+
+    private void writeRow(Writer writer, TransactionExportRowDTO row, ExportFormat format) {
+        try {
+            writer.write(format == ExportFormat.CSV ? toCsvLine(row) : objectMapper.writeValueAsString(row));
+            writer.write('\n');
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+    }
+
+    private String toCsvLine(TransactionExportRowDTO row) {
+        return Stream.of(row.id(), row.transactionDateAndTime(), row.transactionType(), row.quantity(), row.measurementUnit(),
+                        row.unitPrice(), row.motivation(), row.details(), row.productId(), row.productName(),
+                        row.responsibleId(), row.responsibleName())
+                .map(value -> escapeCsv(Objects.toString(value, "")))
+                .collect(Collectors.joining(","));
+    }
+
+    private String escapeCsv(String value) {
+        if (value.contains(",") || value.contains("\"") || value.contains("\n") || value.contains("\r")) {
+            return "\"" + value.replace("\"", "\"\"") + "\"";
+        }
+        return value;
+    }
+}
@@ -1,6 +1,7 @@
 package com.restaurant.restaurantManagement.service;
 
 import com.restaurant.restaurantManagement.enums.UserProfile;
+import com.restaurant.restaurantManagement.events.UserChangedEvent;
 import com.restaurant.restaurantManagement.exception.EmailAlreadyRegisteredException;
 import com.restaurant.restaurantManagement.exception.OperationNotAllowedException;
 import com.restaurant.restaurantManagement.exception.ResourceNotFoundException;
@@ -11,12 +12,15 @@ import com.restaurant.restaurantManagement.model.entity.User;
 import com.restaurant.restaurantManagement.model.mapper.UserMapper;
 import com.restaurant.restaurantManagement.repository.AuthorityRepository;
 import com.restaurant.restaurantManagement.repository.UserRepository;
+import com.restaurant.restaurantManagement.repository.UserSpecifications;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Objects;
 
 @RequiredArgsConstructor
 @Service
@@ -26,6 +30,7 @@ public class UserService {
     private final UserMapper userMapper;
     private final AuthorityRepository authorityRepository;
     private final PasswordEncoder passwordEncoder;
+    private final ApplicationEventPublisher eventPublisher;
 
     public List<GetUserDTO> getAllUsers() {
         return userRepository.findAll().stream().map(userMapper::toGetUserDTO).toList();
@@ -44,6 +49,7 @@ public class UserService {
         AssignUserAuthority(userMapped);
         userMapped.setPassword(passwordEncoder.encode(userMapped.getPassword()));
         var userSaved = userRepository.save(userMapped);
+        eventPublisher.publishEvent(new UserChangedEvent(userMapped.getId()));
 
         return userMapper.toGetUserDTO(userSaved);
     }
@@ -53,14 +59,22 @@ public class UserService {
         var user = userRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("User not found: " + id));
 
+        var credentialsChanged = !Objects.equals(user.getEmail(), updateUserDTO.email());
         user.setName(updateUserDTO.name());
         user.setEmail(updateUserDTO.email());
         user.setPhone(updateUserDTO.phone());
-        user.setPassword(updateUserDTO.password());
+        if (updateUserDTO.password() != null && !updateUserDTO.password().isBlank()) {
+            user.setPassword(passwordEncoder.encode(updateUserDTO.password()));
+            credentialsChanged = true;
+        }
+        if (credentialsChanged) {
+            user.setTokenVersion(user.getTokenVersion() + 1);
+        }
         user.setProfile(updateUserDTO.profile());
         user.setAuthorities(updateUserDTO.authority());
 
         var updatedUser = userRepository.save(user);
+        eventPublisher.publishEvent(new UserChangedEvent(id));
         return userMapper.toGetUserDTO(updatedUser);
     }
 
@@ -76,10 +90,13 @@ public class UserService {
                 .orElseThrow(() -> new ResourceNotFoundException("User not found: " + idToDelete));
 
         userRepository.delete(userToDelete);
+        eventPublisher.publishEvent(new UserChangedEvent(idToDelete));
     }
 
-    public List<GetUserDTO> searchUsersByFilters(String name, String email, String phone, String cpf, UserProfile profile) {
-        return userRepository.findByFilters(email, cpf, name, phone, profile).stream().map(userMapper::toGetUserDTO).toList();
+    @Transactional(readOnly = true)
+    public List<GetUserDTO> searchUsersByFilters(String name, String email, String cpf, String phone, UserProfile profile) {
+        return userRepository.findAll(UserSpecifications.byFilters(name, email, cpf, phone, profile)).stream()
+                .map(userMapper::toGetUserDTO).toList();
     }
 
     private void AssignUserAuthority(User user) {
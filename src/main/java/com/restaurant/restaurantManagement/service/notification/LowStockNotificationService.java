@@ -0,0 +1,65 @@
+package com.restaurant.restaurantManagement.service.notification;
+
+import com.restaurant.restaurantManagement.enums.NotificationChannel;
+import com.restaurant.restaurantManagement.enums.OutboxStatus;
+import com.restaurant.restaurantManagement.events.LowStockEvent;
+import com.restaurant.restaurantManagement.model.dto.user.UserContactDTO;
+import com.restaurant.restaurantManagement.model.entity.NotificationOutbox;
+import com.restaurant.restaurantManagement.repository.NotificationOutboxRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+@RequiredArgsConstructor
+@Service
+public class LowStockNotificationService {
+
+    private final OwnerContactCache ownerContactCache;
+    private final NotificationOutboxRepository notificationOutboxRepository;
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    public void onLowStock(LowStockEvent event) {
+        var subject = "Low Stock: " + event.productName();
+        var message = "The stock of the product " + event.productName() + " is below the minimum amount.\n" +
+                "Current stock: " + event.currentStock() + "\n" +
+                "Minimum stock: " + event.minQuantityOnStock();
+        var now = LocalDateTime.now();
+
+        List<NotificationOutbox> notifications = new ArrayList<>();
+        for (UserContactDTO owner : ownerContactCache.getOwners()) {
+            if (hasText(owner.email())) {
+                notifications.add(buildNotification(NotificationChannel.EMAIL, owner.email(), subject, message, event, now));
+            }
+            if (hasText(owner.phone())) {
+                notifications.add(buildNotification(NotificationChannel.WHATSAPP, owner.phone(), subject, message, event, now));
+            }
+        }
+        if (!notifications.isEmpty()) {
+            notificationOutboxRepository.saveAll(notifications);
+        }
+    }
+
+    private boolean hasText(String recipient) {
+        return recipient != null && !recipient.isBlank();
+    }
+
+    private NotificationOutbox buildNotification(NotificationChannel channel, String recipient, String subject,
+                                                 String message, LowStockEvent event, LocalDateTime now) {
+        return NotificationOutbox.builder()
+                .channel(channel)
+                .recipient(recipient)
+                .subject(subject)
+                .message(message)
+                .productId(event.productId())
+                .status(OutboxStatus.PENDING)
+                .attempts(0)
+                .nextAttemptAt(now)
+                .createdAt(now)
+                .build();
+    }
+}
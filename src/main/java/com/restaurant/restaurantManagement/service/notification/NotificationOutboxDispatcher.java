@@ -0,0 +1,128 @@
+package com.restaurant.restaurantManagement.service.notification;
+
+import com.restaurant.restaurantManagement.enums.NotificationChannel;
+import com.restaurant.restaurantManagement.enums.OutboxStatus;
+import com.restaurant.restaurantManagement.model.entity.NotificationOutbox;
+import com.restaurant.restaurantManagement.repository.NotificationOutboxRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.StringUtils;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@Slf4j
+@RequiredArgsConstructor
+@Service
+public class NotificationOutboxDispatcher {
+
+    private final NotificationOutboxRepository notificationOutboxRepository;
+    private final EmailService emailService;
+    private final WhatsappService whatsappService;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${notification.outbox.batch-size:50}")
+    private int batchSize;
+
+    @Value("${notification.outbox.max-attempts:8}")
+    private int maxAttempts;
+
+    @Value("${notification.outbox.initial-backoff:30s}")
+    private Duration initialBackoff;
+
+    @Value("${notification.outbox.max-backoff:1h}")
+    private Duration maxBackoff;
+
+    @Value("${notification.outbox.lease:5m}")
+    private Duration lease;
+
+    @Scheduled(fixedDelayString = "${notification.outbox.poll-interval:10s}", scheduler = "notificationScheduler")
+    public void dispatchPending() {
+        ClaimedBatch batch;
+        do {
+            batch = transactionTemplate.execute(status -> claimBatch(LocalDateTime.now()));
+            if (batch == null) {
+                return;
+            }
+            batch.deliveries().forEach(this::deliver);
+        } while (batch.claimed() == batchSize);
+    }
+
+    // Claiming is a short transaction: superseded alerts are settled at once and the rest are leased by pushing
+    // next_attempt_at past the send, so no row lock or pooled connection is held while the providers are called.
+    // A lease that runs out (e.g. the instance died mid-send) makes the notification claimable again.
+    private ClaimedBatch claimBatch(LocalDateTime now) {
+        List<NotificationOutbox> claimed = notificationOutboxRepository.claimPending(now, batchSize);
+
+        Map<DeliveryKey, NotificationOutbox> latestByKey = new HashMap<>();
+        for (NotificationOutbox notification : claimed) {
+            latestByKey.merge(DeliveryKey.of(notification), notification,
+                    (current, candidate) -> candidate.getId() > current.getId() ? candidate : current);
+        }
+
+        var deliveries = new ArrayList<NotificationOutbox>();
+        for (NotificationOutbox notification : claimed) {
+            if (latestByKey.get(DeliveryKey.of(notification)) == notification) {
+                notification.setNextAttemptAt(now.plus(lease));
+                deliveries.add(notification);
+            } else {
+                markDelivered(notification, now);
+            }
+        }
+        notificationOutboxRepository.saveAll(claimed);
+        return new ClaimedBatch(claimed.size(), deliveries);
+    }
+
+    private void deliver(NotificationOutbox notification) {
+        try {
+            switch (notification.getChannel()) {
+                case EMAIL -> emailService.sendEmail(notification.getRecipient(), notification.getSubject(), notification.getMessage());
+                case WHATSAPP -> whatsappService.sendWhatsAppMessage(notification.getRecipient(), notification.getMessage());
+            }
+            markDelivered(notification, LocalDateTime.now());
+        } catch (RuntimeException exc) {
+            scheduleRetry(notification, LocalDateTime.now(), exc);
+        }
+        transactionTemplate.executeWithoutResult(status -> notificationOutboxRepository.save(notification));
+    }
+
+    private void markDelivered(NotificationOutbox notification, LocalDateTime now) {
+        notification.setStatus(OutboxStatus.DELIVERED);
+        notification.setDeliveredAt(now);
+    }
+
+    private void scheduleRetry(NotificationOutbox notification, LocalDateTime now, RuntimeException exc) {
+        int attempts = notification.getAttempts() + 1;
+        notification.setAttempts(attempts);
+        notification.setLastError(StringUtils.truncate(String.valueOf(exc.getMessage()), 1000));
+
+        if (attempts >= maxAttempts) {
+            notification.setStatus(OutboxStatus.FAILED);
+            log.error("Giving up on {} notification {} to {} after {} attempts: {}", notification.getChannel(),
+                    notification.getId(), notification.getRecipient(), attempts, exc.getMessage());
+            return;
+        }
+
+        var backoff = initialBackoff.multipliedBy(1L << Math.min(attempts - 1, 20));
+        notification.setNextAttemptAt(now.plus(backoff.compareTo(maxBackoff) > 0 ? maxBackoff : backoff));
+        log.warn("Failed to send {} notification {} to {}, attempt {}: {}", notification.getChannel(),
+                notification.getId(), notification.getRecipient(), attempts, exc.getMessage());
+    }
+
+    private record ClaimedBatch(int claimed, List<NotificationOutbox> deliveries) {
+    }
+
+    private record DeliveryKey(NotificationChannel channel, String recipient, Long productId) {
+        static DeliveryKey of(NotificationOutbox notification) {
+            return new DeliveryKey(notification.getChannel(), notification.getRecipient(), notification.getProductId());
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package com.restaurant.restaurantManagement.service.notification;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+import com.restaurant.restaurantManagement.enums.UserProfile;
+import com.restaurant.restaurantManagement.events.UserChangedEvent;
+import com.restaurant.restaurantManagement.model.dto.user.UserContactDTO;
+import com.restaurant.restaurantManagement.repository.UserRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.List;
+
+@Component
+public class OwnerContactCache {
+
+    private final UserRepository userRepository;
+    private final Counter hits;
+    private final Counter misses;
+
+    private final Cache<UserProfile, List<UserContactDTO>> contacts;
+
+    private long generation;
+
+    @Autowired
+    public OwnerContactCache(UserRepository userRepository,
+                             @Value("${notification.owner-contacts.ttl:5m}") Duration ttl,
+                             MeterRegistry meterRegistry) {
+        this(userRepository, ttl, Ticker.systemTicker(), meterRegistry);
+    }
+
+    OwnerContactCache(UserRepository userRepository, Duration ttl, Ticker ticker, MeterRegistry meterRegistry) {
+        this.userRepository = userRepository;
+        this.contacts = Caffeine.newBuilder()
+                .expireAfterWrite(ttl)
+                .ticker(ticker)
+                .build();
+        this.hits = meterRegistry.counter("notification.owner.contacts.cache", "result", "hit");
+        this.misses = meterRegistry.counter("notification.owner.contacts.cache", "result", "miss");
+    }
+
+    public List<UserContactDTO> getOwners() {
+        var cached = contacts.getIfPresent(UserProfile.OWNER);
+        if (cached != null) {
+            hits.increment();
+            return cached;
+        }
+
+        misses.increment();
+        long loadingGeneration;
+        synchronized (this) {
+            loadingGeneration = generation;
+        }
+        var loaded = List.copyOf(userRepository.findContactsByProfile(UserProfile.OWNER));
+        synchronized (this) {
+            if (generation == loadingGeneration) {
+                contacts.put(UserProfile.OWNER, loaded);
+            }
+        }
+        return loaded;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onUserChanged(UserChangedEvent event) {
+        invalidate();
+    }
+
+    public synchronized void invalidate() {
+        generation++;
+        contacts.invalidateAll();
+    }
+
+    public long getHitCount() {
+        return (long) hits.count();
+    }
+
+    public long getMissCount() {
+        return (long) misses.count();
+    }
+}
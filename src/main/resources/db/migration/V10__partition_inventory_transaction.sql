@@ -0,0 +1,61 @@
+-- The ledger becomes range-partitioned by month. Partitioned tables need the partition key in the primary key;
+-- ids still come from inventory_transaction_seq, so they stay unique on their own.
+ALTER TABLE inventory_transaction RENAME TO inventory_transaction_unpartitioned;
+ALTER INDEX inventory_transaction_pkey RENAME TO inventory_transaction_unpartitioned_pkey;
+DROP INDEX idx_inventory_transaction_product_date;
+DROP INDEX idx_inventory_transaction_user_date;
+
+CREATE TABLE inventory_transaction (
+    id                        BIGINT       NOT NULL,
+    details                   VARCHAR(255),
+    measurement_unit          VARCHAR(255) CHECK (measurement_unit IN ('KILOGRAM', 'UNIT', 'LITER', 'MILLILITER', 'BOX', 'DOZEN')),
+    motivation                VARCHAR(255) CHECK (motivation IN ('REPLENISHMENT', 'CONSUMPTION', 'WASTE', 'SPILLAGE', 'THEFT')),
+    quantity                  BIGINT,
+    transaction_date_and_time TIMESTAMP(6) NOT NULL,
+    type                      VARCHAR(255) CHECK (type IN ('INBOUND', 'OUTBOUND')),
+    unit_price                NUMERIC(38, 2),
+    product_id                BIGINT REFERENCES product (id),
+    user_id                   BIGINT REFERENCES user_profile (id),
+    PRIMARY KEY (id, transaction_date_and_time)
+) PARTITION BY RANGE (transaction_date_and_time);
+
+CREATE FUNCTION ensure_inventory_transaction_partition(month_start DATE) RETURNS BOOLEAN AS $$
+DECLARE
+    partition_name TEXT := 'inventory_transaction_' || to_char(month_start, 'YYYY_MM');
+    lower_bound    TIMESTAMP := date_trunc('month', month_start);
+BEGIN
+    PERFORM pg_advisory_xact_lock(hashtext('inventory_transaction_partitions'));
+    IF to_regclass(partition_name) IS NOT NULL THEN
+        RETURN FALSE;
+    END IF;
+    EXECUTE format('CREATE TABLE %I PARTITION OF inventory_transaction FOR VALUES FROM (%L) TO (%L)',
+                   partition_name, lower_bound, lower_bound + INTERVAL '1 month');
+    RETURN TRUE;
+END
+$$ LANGUAGE plpgsql;
+
+SELECT ensure_inventory_transaction_partition(month::DATE)
+FROM generate_series(
+        date_trunc('month', COALESCE((SELECT MIN(transaction_date_and_time) FROM inventory_transaction_unpartitioned), now())),
+        date_trunc('month', now()) + INTERVAL '3 months',
+        INTERVAL '1 month') AS month;
+
+-- Rows written without a date predate the ledger's history; they are filed under its first month.
+INSERT INTO inventory_transaction (id, details, measurement_unit, motivation, quantity, transaction_date_and_time,
+                                   type, unit_price, product_id, user_id)
+SELECT id, details, measurement_unit, motivation, quantity,
+       COALESCE(transaction_date_and_time, (SELECT MIN(transaction_date_and_time) FROM inventory_transaction_unpartitioned),
+                date_trunc('month', now())),
+       type, unit_price, product_id, user_id
+FROM inventory_transaction_unpartitioned;
+
+DROP TABLE inventory_transaction_unpartitioned;
+
+CREATE INDEX idx_inventory_transaction_product_date
+    ON inventory_transaction (product_id, transaction_date_and_time DESC, id DESC);
+
+CREATE INDEX idx_inventory_transaction_user_date
+    ON inventory_transaction (user_id, transaction_date_and_time DESC, id DESC);
+
+-- Autovacuum never analyzes a partitioned parent; without these statistics the planner guesses join sizes.
+ANALYZE inventory_transaction;
@@ -0,0 +1,26 @@
+-- Outbound movements summed per product, day and motivation; kept current by every registered transaction.
+-- Outbound rows without a motivation count as consumption.
+CREATE TABLE daily_consumption (
+    product_id        BIGINT         NOT NULL REFERENCES product (id) ON DELETE CASCADE,
+    consumption_date  DATE           NOT NULL,
+    motivation        VARCHAR(255)   NOT NULL CHECK (motivation IN ('REPLENISHMENT', 'CONSUMPTION', 'WASTE', 'SPILLAGE', 'THEFT')),
+    quantity          BIGINT         NOT NULL,
+    total_value       NUMERIC(38, 2) NOT NULL,
+    transaction_count BIGINT         NOT NULL,
+    PRIMARY KEY (product_id, consumption_date, motivation)
+);
+
+CREATE INDEX idx_daily_consumption_date ON daily_consumption (consumption_date);
+
+INSERT INTO daily_consumption (product_id, consumption_date, motivation, quantity, total_value, transaction_count)
+SELECT product_id,
+       transaction_date_and_time::DATE,
+       COALESCE(motivation, 'CONSUMPTION'),
+       SUM(quantity),
+       SUM(COALESCE(quantity * unit_price, 0)),
+       COUNT(*)
+FROM inventory_transaction
+WHERE type = 'OUTBOUND' AND product_id IS NOT NULL AND quantity IS NOT NULL
+GROUP BY 1, 2, 3;
+
+ANALYZE daily_consumption;
@@ -0,0 +1,8 @@
+-- Exponentially smoothed daily outbound quantity per product, folded forward one closed day at a time.
+CREATE TABLE consumption_forecast (
+    product_id             BIGINT           PRIMARY KEY REFERENCES product (id) ON DELETE CASCADE,
+    average_daily_quantity DOUBLE PRECISION NOT NULL,
+    daily_variance         DOUBLE PRECISION NOT NULL,
+    smoothed_through       DATE             NOT NULL,
+    updated_at             TIMESTAMP(6)     NOT NULL
+);
@@ -0,0 +1,3 @@
+-- The in-memory ProductNameIndex is only a fast path; this index is what actually keeps names unique,
+-- case-insensitively, and it also backs the ProductRepository.findByNameIgnoreCase fallback.
+CREATE UNIQUE INDEX uk_product_name_lower ON product (lower(name));
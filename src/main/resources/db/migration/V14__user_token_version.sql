@@ -0,0 +1,2 @@
+-- Refresh tokens carry the version they were issued under; bumping it (password or email change) revokes them.
+ALTER TABLE user_profile ADD COLUMN token_version BIGINT NOT NULL DEFAULT 0;
@@ -0,0 +1,42 @@
+-- Opening stock, count corrections, the inventory inbound/outbound endpoints and the product.current_stock values V8
+-- moved never reached the ledger, so rebuilding from it lost stock. Those writes now book OPENING_BALANCE and
+-- ADJUSTMENT rows; the gap each product already has is booked once here as its opening balance.
+DO $$
+DECLARE
+    motivation_check TEXT;
+BEGIN
+    FOR motivation_check IN
+        SELECT conname FROM pg_constraint
+        WHERE conrelid = 'inventory_transaction'::regclass AND contype = 'c' AND pg_get_constraintdef(oid) LIKE '%motivation%'
+    LOOP
+        EXECUTE format('ALTER TABLE inventory_transaction DROP CONSTRAINT %I', motivation_check);
+    END LOOP;
+END
+$$;
+
+ALTER TABLE inventory_transaction ADD CONSTRAINT inventory_transaction_motivation_check
+    CHECK (motivation IN ('REPLENISHMENT', 'CONSUMPTION', 'WASTE', 'SPILLAGE', 'THEFT', 'OPENING_BALANCE', 'ADJUSTMENT'));
+
+SELECT ensure_inventory_transaction_partition(date_trunc('month', now())::DATE);
+
+INSERT INTO inventory_transaction (id, details, measurement_unit, motivation, quantity, transaction_date_and_time,
+                                   type, unit_price, product_id)
+SELECT nextval('inventory_transaction_seq'), 'Opening balance', p.measurement_unit, 'OPENING_BALANCE', abs(gap.quantity),
+       now(), CASE WHEN gap.quantity > 0 THEN 'INBOUND' ELSE 'OUTBOUND' END, p.price, p.id
+FROM (
+    SELECT inv.product_id, inv.current_quantity - COALESCE(s.quantity, 0) - COALESCE(r.quantity, 0) AS quantity
+    FROM inventory inv
+    LEFT JOIN LATERAL (
+        SELECT ls.quantity, ls.last_transaction_at, ls.last_transaction_id FROM stock_snapshot ls
+        WHERE ls.product_id = inv.product_id
+        ORDER BY ls.last_transaction_at DESC, ls.last_transaction_id DESC
+        LIMIT 1) s ON TRUE
+    LEFT JOIN LATERAL (
+        SELECT SUM(CASE t.type WHEN 'INBOUND' THEN t.quantity ELSE -t.quantity END) AS quantity
+        FROM inventory_transaction t
+        WHERE t.product_id = inv.product_id
+          AND t.transaction_date_and_time >= COALESCE(s.last_transaction_at, '-infinity')
+          AND (t.transaction_date_and_time, t.id) > (COALESCE(s.last_transaction_at, '-infinity'), COALESCE(s.last_transaction_id, 0))) r ON TRUE
+) gap
+JOIN product p ON p.id = gap.product_id
+WHERE gap.quantity <> 0;
@@ -0,0 +1,25 @@
+-- A transaction dated in a month without a partition used to fail the insert. It now lands in the default partition
+-- and is moved into its month once that partition is created (on demand or by the nightly maintenance).
+CREATE TABLE inventory_transaction_default PARTITION OF inventory_transaction DEFAULT;
+
+CREATE OR REPLACE FUNCTION ensure_inventory_transaction_partition(month_start DATE) RETURNS BOOLEAN AS $$
+DECLARE
+    partition_name TEXT := 'inventory_transaction_' || to_char(month_start, 'YYYY_MM');
+    lower_bound    TIMESTAMP := date_trunc('month', month_start);
+    upper_bound    TIMESTAMP := date_trunc('month', month_start) + INTERVAL '1 month';
+BEGIN
+    PERFORM pg_advisory_xact_lock(hashtext('inventory_transaction_partitions'));
+    IF to_regclass(partition_name) IS NOT NULL THEN
+        RETURN FALSE;
+    END IF;
+    -- CREATE ... PARTITION OF fails while the default partition holds rows of the month, so the month is built
+    -- detached, filled with those rows and then attached.
+    EXECUTE format('CREATE TABLE %I (LIKE inventory_transaction INCLUDING DEFAULTS INCLUDING CONSTRAINTS)', partition_name);
+    EXECUTE format('WITH moved AS (DELETE FROM inventory_transaction_default
+                                   WHERE transaction_date_and_time >= %L AND transaction_date_and_time < %L RETURNING *)
+                    INSERT INTO %I SELECT * FROM moved', lower_bound, upper_bound, partition_name);
+    EXECUTE format('ALTER TABLE inventory_transaction ATTACH PARTITION %I FOR VALUES FROM (%L) TO (%L)',
+                   partition_name, lower_bound, upper_bound);
+    RETURN TRUE;
+END
+$$ LANGUAGE plpgsql;
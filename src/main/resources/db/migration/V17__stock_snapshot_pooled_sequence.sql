@@ -0,0 +1,5 @@
+-- Snapshots are written in bulk every night; like the tables in V2 they move from IDENTITY to a pooled sequence
+-- (INCREMENT BY must match allocationSize on the entity), starting past existing ids.
+ALTER TABLE stock_snapshot ALTER COLUMN id DROP IDENTITY IF EXISTS;
+CREATE SEQUENCE stock_snapshot_seq INCREMENT BY 50;
+SELECT setval('stock_snapshot_seq', (SELECT COALESCE(MAX(id), 0) + 50 FROM stock_snapshot));
@@ -0,0 +1,25 @@
+-- Tables of the low-stock notification outbox and alert state. Databases that ran the notification code before
+-- migrations were introduced already have them from Hibernate's schema update.
+CREATE TABLE IF NOT EXISTS notification_outbox (
+    id              BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    attempts        INTEGER,
+    channel         VARCHAR(255) CHECK (channel IN ('EMAIL', 'WHATSAPP')),
+    created_at      TIMESTAMP(6),
+    delivered_at    TIMESTAMP(6),
+    last_error      VARCHAR(1100),
+    message         VARCHAR(2000),
+    next_attempt_at TIMESTAMP(6),
+    product_id      BIGINT,
+    recipient       VARCHAR(255),
+    status          VARCHAR(255) CHECK (status IN ('PENDING', 'DELIVERED', 'FAILED')),
+    subject         VARCHAR(255)
+);
+
+CREATE INDEX IF NOT EXISTS idx_notification_outbox_pending ON notification_outbox (status, next_attempt_at);
+
+CREATE TABLE IF NOT EXISTS stock_alert_state (
+    product_id       BIGINT PRIMARY KEY,
+    fired_at         TIMESTAMP(6),
+    last_notified_at TIMESTAMP(6),
+    status           VARCHAR(255) CHECK (status IN ('ARMED', 'FIRED'))
+);
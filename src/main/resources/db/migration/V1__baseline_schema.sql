@@ -0,0 +1,52 @@
+CREATE TABLE authorities (
+    id   VARCHAR(255) PRIMARY KEY,
+    name VARCHAR(255)
+);
+
+CREATE TABLE user_profile (
+    id       BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    cpf      VARCHAR(255),
+    email    VARCHAR(255),
+    name     VARCHAR(255),
+    password VARCHAR(255),
+    phone    VARCHAR(255),
+    profile  VARCHAR(255) CHECK (profile IN ('OWNER', 'EMPLOYEE'))
+);
+
+CREATE TABLE user_authority (
+    user_id      BIGINT       NOT NULL REFERENCES user_profile (id),
+    authority_id VARCHAR(255) NOT NULL
+);
+
+CREATE TABLE product (
+    id                    BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    category              VARCHAR(255) CHECK (category IN ('PERISHABLES', 'NOT_PERISHABLE', 'CANNED', 'BEVERAGES', 'CONDIMENTS',
+                                                           'BAKERY', 'DAIRY', 'MEAT', 'SEAFOOD', 'PREPARED_FOOD')),
+    current_stock         BIGINT,
+    measurement_unit      VARCHAR(255) CHECK (measurement_unit IN ('KILOGRAM', 'UNIT', 'LITER', 'MILLILITER', 'BOX', 'DOZEN')),
+    min_quantity_on_stock BIGINT,
+    name                  VARCHAR(255),
+    price                 NUMERIC(38, 2)
+);
+
+CREATE TABLE inventory (
+    id               BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    current_quantity BIGINT,
+    last_updated_at  TIMESTAMP(6),
+    product_id       BIGINT UNIQUE REFERENCES product (id)
+);
+
+CREATE TABLE inventory_transaction (
+    id                        BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    details                   VARCHAR(255),
+    measurement_unit          VARCHAR(255) CHECK (measurement_unit IN ('KILOGRAM', 'UNIT', 'LITER', 'MILLILITER', 'BOX', 'DOZEN')),
+    motivation                VARCHAR(255) CHECK (motivation IN ('REPLENISHMENT', 'CONSUMPTION', 'WASTE', 'SPILLAGE', 'THEFT')),
+    quantity                  BIGINT,
+    transaction_date_and_time TIMESTAMP(6),
+    type                      VARCHAR(255) CHECK (type IN ('INBOUND', 'OUTBOUND')),
+    unit_price                NUMERIC(38, 2),
+    product_id                BIGINT REFERENCES product (id),
+    user_id                   BIGINT REFERENCES user_profile (id)
+);
+
+INSERT INTO authorities (id, name) VALUES ('1', 'ROLE_OWNER'), ('2', 'ROLE_STAFF');
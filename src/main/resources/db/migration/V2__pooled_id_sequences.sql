@@ -0,0 +1,18 @@
+-- IDENTITY columns force Hibernate to insert one row per round trip. These tables move to
+-- pooled sequences (INCREMENT BY must match allocationSize on the entities), starting past existing ids.
+
+ALTER TABLE product ALTER COLUMN id DROP IDENTITY IF EXISTS;
+CREATE SEQUENCE product_seq INCREMENT BY 50;
+SELECT setval('product_seq', (SELECT COALESCE(MAX(id), 0) + 50 FROM product));
+
+ALTER TABLE inventory ALTER COLUMN id DROP IDENTITY IF EXISTS;
+CREATE SEQUENCE inventory_seq INCREMENT BY 50;
+SELECT setval('inventory_seq', (SELECT COALESCE(MAX(id), 0) + 50 FROM inventory));
+
+ALTER TABLE inventory_transaction ALTER COLUMN id DROP IDENTITY IF EXISTS;
+CREATE SEQUENCE inventory_transaction_seq INCREMENT BY 50;
+SELECT setval('inventory_transaction_seq', (SELECT COALESCE(MAX(id), 0) + 50 FROM inventory_transaction));
+
+ALTER TABLE notification_outbox ALTER COLUMN id DROP IDENTITY IF EXISTS;
+CREATE SEQUENCE notification_outbox_seq INCREMENT BY 50;
+SELECT setval('notification_outbox_seq', (SELECT COALESCE(MAX(id), 0) + 50 FROM notification_outbox));
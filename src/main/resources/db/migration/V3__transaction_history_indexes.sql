@@ -0,0 +1,5 @@
+CREATE INDEX idx_inventory_transaction_product_date
+    ON inventory_transaction (product_id, transaction_date_and_time DESC, id DESC);
+
+CREATE INDEX idx_inventory_transaction_user_date
+    ON inventory_transaction (user_id, transaction_date_and_time DESC, id DESC);
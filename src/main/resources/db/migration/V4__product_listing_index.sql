@@ -0,0 +1 @@
+CREATE INDEX idx_product_name_id ON product (name, id);
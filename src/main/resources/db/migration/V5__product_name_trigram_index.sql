@@ -0,0 +1,3 @@
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+CREATE INDEX idx_product_name_trgm ON product USING gin (lower(name) gin_trgm_ops);
@@ -0,0 +1,6 @@
+CREATE INDEX idx_user_profile_email ON user_profile (email);
+CREATE INDEX idx_user_profile_cpf ON user_profile (cpf);
+CREATE INDEX idx_user_profile_phone ON user_profile (phone);
+CREATE INDEX idx_user_profile_name_trgm ON user_profile USING gin (lower(name) gin_trgm_ops);
+
+CREATE INDEX idx_product_category_measurement_unit ON product (category, measurement_unit);
@@ -0,0 +1,9 @@
+CREATE TABLE stock_snapshot (
+    id                  BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    product_id          BIGINT       NOT NULL REFERENCES product (id) ON DELETE CASCADE,
+    quantity            BIGINT       NOT NULL,
+    last_transaction_at TIMESTAMP(6) NOT NULL,
+    last_transaction_id BIGINT       NOT NULL,
+    taken_at            TIMESTAMP(6) NOT NULL,
+    CONSTRAINT uk_stock_snapshot_watermark UNIQUE (product_id, last_transaction_at, last_transaction_id)
+);
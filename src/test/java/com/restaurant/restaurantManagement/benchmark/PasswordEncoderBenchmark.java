@@ -0,0 +1,56 @@
+package com.restaurant.restaurantManagement.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of a single BCrypt verification per strength, used to pick security.password.bcrypt-strength.
+ * Run the main method after mvn test-compile, with target/test-classes, target/classes and the test
+ * classpath (mvn dependency:build-classpath -Dmdep.includeScope=test) on the java classpath.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 2)
+public class PasswordEncoderBenchmark {
+
+    private static final String PASSWORD = "s3cret-Passw0rd";
+
+    @Param({"10", "11", "12", "13", "14"})
+    private int strength;
+
+    private BCryptPasswordEncoder passwordEncoder;
+    private String hash;
+
+    @Setup
+    public void setup() {
+        passwordEncoder = new BCryptPasswordEncoder(strength);
+        hash = passwordEncoder.encode(PASSWORD);
+    }
+
+    @Benchmark
+    public boolean verify() {
+        return passwordEncoder.matches(PASSWORD, hash);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(PasswordEncoderBenchmark.class.getSimpleName()).build()).run();
+    }
+}
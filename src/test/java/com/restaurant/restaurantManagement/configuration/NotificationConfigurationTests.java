@@ -0,0 +1,42 @@
+package com.restaurant.restaurantManagement.configuration;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class NotificationConfigurationTests {
+
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+            .withUserConfiguration(NotificationConfiguration.class, Jobs.class);
+
+    @Test
+    void testNotificationConfiguration_WhenJobHasNoScheduler_ShouldNotRunOnTheNotificationThread() {
+        contextRunner.run(context -> {
+            var jobs = context.getBean(Jobs.class);
+
+            assertTrue(jobs.defaultThread.get(5, TimeUnit.SECONDS).startsWith("scheduling-"));
+            assertTrue(jobs.notificationThread.get(5, TimeUnit.SECONDS).startsWith("notification-"));
+        });
+    }
+
+    static class Jobs {
+
+        private final CompletableFuture<String> defaultThread = new CompletableFuture<>();
+        private final CompletableFuture<String> notificationThread = new CompletableFuture<>();
+
+        @Scheduled(fixedDelay = 60_000)
+        void backgroundJob() {
+            defaultThread.complete(Thread.currentThread().getName());
+        }
+
+        @Scheduled(fixedDelay = 60_000, scheduler = "notificationScheduler")
+        void outboxJob() {
+            notificationThread.complete(Thread.currentThread().getName());
+        }
+    }
+}
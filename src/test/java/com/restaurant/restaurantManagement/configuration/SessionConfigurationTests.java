@@ -0,0 +1,48 @@
+package com.restaurant.restaurantManagement.configuration;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SessionConfigurationTests {
+
+    private final SessionConfiguration.InMemorySessionConfiguration configuration = new SessionConfiguration.InMemorySessionConfiguration();
+
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setup() {
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @Test
+    void testSessionConfiguration_WhenSavingAndFindingASession_ShouldKeepItsAttributes() {
+        var sessions = configuration.httpSessions(10, Duration.ofMinutes(15), meterRegistry);
+        var repository = configuration.sessionRepository(sessions, Duration.ofMinutes(15));
+
+        var session = repository.createSession();
+        session.setAttribute("SPRING_SECURITY_CONTEXT", "context");
+        repository.save(session);
+
+        assertEquals("context", repository.findById(session.getId()).getAttribute("SPRING_SECURITY_CONTEXT"));
+        assertEquals(Duration.ofMinutes(15), session.getMaxInactiveInterval());
+    }
+
+    @Test
+    void testSessionConfiguration_WhenStoringMoreSessionsThanTheCap_ShouldEvictDownToTheCap() {
+        var sessions = configuration.httpSessions(5, Duration.ofMinutes(15), meterRegistry);
+        var repository = configuration.sessionRepository(sessions, Duration.ofMinutes(15));
+
+        for (int i = 0; i < 50; i++) {
+            repository.save(repository.createSession());
+        }
+        sessions.cleanUp();
+
+        assertTrue(sessions.estimatedSize() <= 5);
+        assertEquals(sessions.estimatedSize(), meterRegistry.get("cache.size").tag("cache", SessionConfiguration.SESSION_METRIC).gauge().value());
+    }
+}
@@ -0,0 +1,74 @@
+package com.restaurant.restaurantManagement.configuration.security;
+
+import com.restaurant.restaurantManagement.events.UserChangedEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CredentialCacheTests {
+
+    private CredentialCache credentialCache;
+    private AtomicInteger verifications;
+    private Supplier<Collection<? extends GrantedAuthority>> verifier;
+
+    @BeforeEach
+    void setup() {
+        credentialCache = new CredentialCache(Duration.ofMinutes(5), 100, new SimpleMeterRegistry());
+        verifications = new AtomicInteger();
+        verifier = () -> {
+            verifications.incrementAndGet();
+            return List.of(new SimpleGrantedAuthority("ROLE_STAFF"));
+        };
+    }
+
+    @Test
+    void testCredentialCache_WhenSameCredentialsArePresentedRepeatedly_ShouldVerifyOnce() {
+        credentialCache.verify("alice@email.com", "123456", verifier);
+        var authorities = credentialCache.verify("alice@email.com", "123456", verifier);
+
+        assertEquals(List.of(new SimpleGrantedAuthority("ROLE_STAFF")), authorities);
+        assertEquals(1, verifications.get());
+        assertEquals(1, credentialCache.getHitCount());
+        assertEquals(1, credentialCache.getMissCount());
+    }
+
+    @Test
+    void testCredentialCache_WhenADifferentPasswordIsPresented_ShouldVerifyAgain() {
+        credentialCache.verify("alice@email.com", "123456", verifier);
+        credentialCache.verify("alice@email.com", "654321", verifier);
+
+        assertEquals(2, verifications.get());
+    }
+
+    @Test
+    void testCredentialCache_WhenVerificationFails_ShouldNotCacheTheCredentials() {
+        Supplier<Collection<? extends GrantedAuthority>> failing = () -> {
+            verifications.incrementAndGet();
+            throw new BadCredentialsException("Invalid Password");
+        };
+
+        assertThrows(BadCredentialsException.class, () -> credentialCache.verify("alice@email.com", "wrong", failing));
+        assertThrows(BadCredentialsException.class, () -> credentialCache.verify("alice@email.com", "wrong", failing));
+        assertEquals(2, verifications.get());
+    }
+
+    @Test
+    void testCredentialCache_WhenAUserChanges_ShouldVerifyAgain() {
+        credentialCache.verify("alice@email.com", "123456", verifier);
+        credentialCache.onUserChanged(new UserChangedEvent(1L));
+        credentialCache.verify("alice@email.com", "123456", verifier);
+
+        assertEquals(2, verifications.get());
+    }
+}
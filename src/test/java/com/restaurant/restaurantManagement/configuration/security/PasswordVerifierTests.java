@@ -0,0 +1,76 @@
+package com.restaurant.restaurantManagement.configuration.security;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class PasswordVerifierTests {
+
+    private static final String PASSWORD = "123456";
+
+    @Mock
+    private UserDetailsPasswordService userDetailsPasswordService;
+
+    private PasswordEncoder passwordEncoder;
+    private PasswordVerifier passwordVerifier;
+
+    @BeforeEach
+    void setup() {
+        passwordEncoder = new SecurityConfig(null, null, null).passwordEncoder(PasswordStrengthCalibrator.MIN_STRENGTH, Duration.ZERO);
+        passwordVerifier = new PasswordVerifier(passwordEncoder, userDetailsPasswordService, 1, 1);
+    }
+
+    @AfterEach
+    void tearDown() {
+        passwordVerifier.shutdown();
+    }
+
+    @Test
+    void testPasswordVerifier_WhenHashHasNoEncoderPrefix_ShouldStillMatchIt() {
+        var legacyHash = new BCryptPasswordEncoder().encode(PASSWORD);
+
+        assertTrue(passwordVerifier.matches(PASSWORD, legacyHash));
+        assertFalse(passwordVerifier.matches("wrong", legacyHash));
+    }
+
+    @Test
+    void testPasswordVerifier_WhenHashIsLegacy_ShouldRehashInBackground() {
+        var user = userWithHash(new BCryptPasswordEncoder(4).encode(PASSWORD));
+
+        passwordVerifier.upgradeInBackground(user, PASSWORD);
+
+        var newHash = ArgumentCaptor.forClass(String.class);
+        verify(userDetailsPasswordService, timeout(5000)).updatePassword(eq(user), newHash.capture());
+        assertTrue(newHash.getValue().startsWith("{bcrypt}$2a$10$"));
+        assertTrue(passwordEncoder.matches(PASSWORD, newHash.getValue()));
+    }
+
+    @Test
+    void testPasswordVerifier_WhenHashIsCurrent_ShouldNotRehash() {
+        passwordVerifier.upgradeInBackground(userWithHash(passwordEncoder.encode(PASSWORD)), PASSWORD);
+
+        verify(userDetailsPasswordService, after(200).never()).updatePassword(any(), any());
+    }
+
+    private UserDetails userWithHash(String hash) {
+        return new User("alice@email.com", hash, List.of());
+    }
+}
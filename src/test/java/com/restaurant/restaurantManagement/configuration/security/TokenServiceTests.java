@@ -0,0 +1,75 @@
+package com.restaurant.restaurantManagement.configuration.security;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.restaurant.restaurantManagement.exception.InvalidTokenException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TokenServiceTests {
+
+    private static final String SECRET = "1X9UuyRDKZUkPlfqLetJzIp1tA1kIbWrSrS3ZwIo61w=";
+    private static final String OTHER_SECRET = "PD4Roqr/jvjIl/+w7nYpuxYFR+HfTaS93HlyUmVQFZc=";
+
+    private TokenService tokenService;
+
+    @BeforeEach
+    void setup() {
+        tokenService = new TokenService(SECRET, Duration.ofMinutes(15), Duration.ofHours(12), new ObjectMapper());
+    }
+
+    @Test
+    void testTokenService_WhenAuthenticatingAnIssuedAccessToken_ShouldRestoreUserAndAuthorities() {
+        var tokens = tokenService.issueTokens("alice@email.com", List.of(new SimpleGrantedAuthority("ROLE_STAFF")), 0);
+
+        var authentication = tokenService.authenticate(tokens.accessToken());
+
+        assertEquals("alice@email.com", authentication.getName());
+        assertEquals(List.of(new SimpleGrantedAuthority("ROLE_STAFF")), List.copyOf(authentication.getAuthorities()));
+        assertEquals(900, tokens.expiresIn());
+    }
+
+    @Test
+    void testTokenService_WhenTokenSignatureIsTampered_ShouldThrowInvalidTokenException() {
+        var accessToken = tokenService.issueTokens("alice@email.com", List.of(), 0).accessToken();
+        var tampered = accessToken.substring(0, accessToken.length() - 2) + (accessToken.endsWith("AA") ? "BB" : "AA");
+
+        assertThrows(InvalidTokenException.class, () -> tokenService.authenticate(tampered));
+    }
+
+    @Test
+    void testTokenService_WhenTokenWasSignedByAnotherKey_ShouldThrowInvalidTokenException() {
+        var otherNode = new TokenService(OTHER_SECRET, Duration.ofMinutes(15), Duration.ofHours(12), new ObjectMapper());
+        var accessToken = otherNode.issueTokens("alice@email.com", List.of(), 0).accessToken();
+
+        assertThrows(InvalidTokenException.class, () -> tokenService.authenticate(accessToken));
+    }
+
+    @Test
+    void testTokenService_WhenUsingARefreshTokenAsAccessToken_ShouldThrowInvalidTokenException() {
+        var tokens = tokenService.issueTokens("alice@email.com", List.of(), 3);
+
+        assertThrows(InvalidTokenException.class, () -> tokenService.authenticate(tokens.refreshToken()));
+        assertEquals(new TokenService.RefreshToken("alice@email.com", 3), tokenService.verifyRefreshToken(tokens.refreshToken()));
+    }
+
+    @Test
+    void testTokenService_WhenAccessTokenIsExpired_ShouldThrowInvalidTokenException() {
+        var expiring = new TokenService(SECRET, Duration.ZERO, Duration.ofHours(12), new ObjectMapper());
+        var accessToken = expiring.issueTokens("alice@email.com", List.of(), 0).accessToken();
+
+        assertThrows(InvalidTokenException.class, () -> expiring.authenticate(accessToken));
+    }
+
+    @Test
+    void testTokenService_WhenSecretIsBlank_ShouldFailInsteadOfGeneratingAKey() {
+        var exc = assertThrows(IllegalStateException.class,
+                () -> new TokenService(" ", Duration.ofMinutes(15), Duration.ofHours(12), new ObjectMapper()));
+        assertTrue(exc.getMessage().contains("security.token.secret"));
+    }
+}
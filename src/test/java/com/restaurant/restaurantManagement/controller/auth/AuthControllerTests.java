@@ -0,0 +1,110 @@
+package com.restaurant.restaurantManagement.controller.auth;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.restaurant.restaurantManagement.configuration.security.SecurityConfig;
+import com.restaurant.restaurantManagement.configuration.security.TokenService;
+import com.restaurant.restaurantManagement.controller.AuthController;
+import com.restaurant.restaurantManagement.exception.InvalidTokenException;
+import com.restaurant.restaurantManagement.model.dto.auth.RefreshTokenDTO;
+import com.restaurant.restaurantManagement.model.dto.auth.TokenDTO;
+import com.restaurant.restaurantManagement.service.AuthService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@Import({SecurityConfig.class, SimpleMeterRegistry.class})
+@WebMvcTest(controllers = AuthController.class, properties = "security.token.secret=1X9UuyRDKZUkPlfqLetJzIp1tA1kIbWrSrS3ZwIo61w=")
+public class AuthControllerTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private TokenService tokenService;
+
+    @MockBean
+    private AuthService authService;
+
+    private final TokenDTO tokens = TokenDTO.builder()
+            .accessToken("access")
+            .refreshToken("refresh")
+            .tokenType("Bearer")
+            .expiresIn(900)
+            .build();
+
+    @Test
+    @WithMockUser(username = "dev@teste.com", roles = "EMPLOYEE")
+    void testAuthController_WhenRequestingTokensWhileAuthenticated_ShouldReturnTokenPair() throws Exception {
+        when(authService.issueTokens(any(Authentication.class))).thenReturn(tokens);
+
+        mockMvc.perform(post("/auth/token"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.accessToken").value("access"))
+                .andExpect(jsonPath("$.tokenType").value("Bearer"));
+    }
+
+    @Test
+    void testAuthController_WhenRequestingTokensWithoutCredentials_ShouldReturnUnauthorized() throws Exception {
+        mockMvc.perform(post("/auth/token"))
+                .andExpect(status().isUnauthorized());
+        verifyNoInteractions(authService);
+    }
+
+    @Test
+    void testAuthController_WhenRefreshingWithAnInvalidToken_ShouldReturnUnauthorized() throws Exception {
+        when(authService.refreshTokens("expired")).thenThrow(new InvalidTokenException("Token expired"));
+
+        mockMvc.perform(post("/auth/refresh")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new RefreshTokenDTO("expired"))))
+                .andExpect(status().isUnauthorized())
+                .andExpect(jsonPath("$.message").value("Token expired"));
+    }
+
+    @Test
+    void testAuthController_WhenRefreshingWithAValidToken_ShouldReturnNewTokenPair() throws Exception {
+        when(authService.refreshTokens("refresh")).thenReturn(tokens);
+
+        mockMvc.perform(post("/auth/refresh")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new RefreshTokenDTO("refresh"))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.refreshToken").value("refresh"));
+    }
+
+    @Test
+    void testAuthController_WhenBearerTokenIsInvalid_ShouldReturnUnauthorized() throws Exception {
+        mockMvc.perform(post("/auth/token").header("Authorization", "Bearer not-a-token"))
+                .andExpect(status().isUnauthorized());
+        verifyNoInteractions(authService);
+    }
+
+    @Test
+    void testAuthController_WhenUsingAnEmployeeBearerTokenOnOwnerRoute_ShouldReturnForbidden() throws Exception {
+        var accessToken = tokenService.issueTokens("dev@teste.com", List.of(new SimpleGrantedAuthority("ROLE_EMPLOYEE")), 0).accessToken();
+
+        mockMvc.perform(get("/users").header("Authorization", "Bearer " + accessToken))
+                .andExpect(status().isForbidden());
+    }
+}
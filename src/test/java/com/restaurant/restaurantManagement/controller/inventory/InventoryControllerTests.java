@@ -6,12 +6,18 @@ import com.restaurant.restaurantManagement.controller.InventoryController;
 import com.restaurant.restaurantManagement.enums.MeasurementUnit;
 import com.restaurant.restaurantManagement.enums.ProductCategory;
 import com.restaurant.restaurantManagement.model.dto.inventory.CreateInventoryDTO;
+import com.restaurant.restaurantManagement.model.dto.inventory.ConsumptionForecastDTO;
 import com.restaurant.restaurantManagement.model.dto.inventory.GetInventoryDTO;
+import com.restaurant.restaurantManagement.model.dto.inventory.LedgerStockDTO;
 import com.restaurant.restaurantManagement.model.dto.product.GetProductDTO;
 import com.restaurant.restaurantManagement.model.dto.product.UpdateStockDTO;
+import com.restaurant.restaurantManagement.model.entity.Inventory;
 import com.restaurant.restaurantManagement.model.entity.Product;
+import com.restaurant.restaurantManagement.service.ConsumptionForecastService;
 import com.restaurant.restaurantManagement.service.InventoryService;
 import com.restaurant.restaurantManagement.service.ProductService;
+import com.restaurant.restaurantManagement.service.StockSnapshotService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mock;
@@ -23,6 +29,7 @@ import org.springframework.http.MediaType;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.web.servlet.MockMvc;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -33,8 +40,8 @@ import static org.springframework.test.web.servlet.request.MockMvcRequestBuilder
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
-@Import(SecurityConfig.class)
-@WebMvcTest(InventoryController.class)
+@Import({SecurityConfig.class, SimpleMeterRegistry.class})
+@WebMvcTest(controllers = InventoryController.class, properties = "security.token.secret=1X9UuyRDKZUkPlfqLetJzIp1tA1kIbWrSrS3ZwIo61w=")
 public class InventoryControllerTests {
 
     @Autowired
@@ -49,6 +56,12 @@ public class InventoryControllerTests {
     @MockBean
     private ProductService productService;
 
+    @MockBean
+    private StockSnapshotService stockSnapshotService;
+
+    @MockBean
+    private ConsumptionForecastService consumptionForecastService;
+
     private GetInventoryDTO inventory;
     private Product product;
 
@@ -70,8 +83,8 @@ public class InventoryControllerTests {
                 .id(1L)
                 .category(ProductCategory.PERISHABLES)
                 .measurementUnit(MeasurementUnit.KILOGRAM)
-                .currentStock(20L)
                 .build();
+        product.setInventory(Inventory.builder().product(product).currentQuantity(20L).build());
     }
 
     @Test
@@ -115,7 +128,7 @@ public class InventoryControllerTests {
                 .currentQuantity(30L)
                 .build();
 
-        when(inventoryService.getInventoryByProductName("Radish")).thenReturn(updatedInventory);
+        when(inventoryService.increaseStock(product, 10L, "dev@teste.com")).thenReturn(updatedInventory);
 
         mockMvc.perform(post("/inventories/Radish/inbound")
                         .contentType(MediaType.APPLICATION_JSON)
@@ -136,7 +149,7 @@ public class InventoryControllerTests {
                 .currentQuantity(10L)
                 .build();
 
-        when(inventoryService.getInventoryByProductName("Radish")).thenReturn(updatedInventory);
+        when(inventoryService.decreaseStock(product, 10L, "dev@teste.com")).thenReturn(updatedInventory);
         mockMvc.perform(post("/inventories/Radish/outbound")
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(objectMapper.writeValueAsString(updateStockDTO)))
@@ -145,6 +158,42 @@ public class InventoryControllerTests {
                 .andExpect(jsonPath("$.currentQuantity").value(10));
 
     }
-}
 
+    @Test
+    @WithMockUser(username = "dev@teste.com", roles = "EMPLOYEE")
+    void testInventoryController_WhenGetLedgerStockAtDate_ShouldReturnStockComputedFromLedger() throws Exception {
+        var at = LocalDateTime.of(2025, 3, 1, 12, 0);
+        when(productService.getProductByName("Radish")).thenReturn(product);
+        when(stockSnapshotService.getLedgerStock(product, at)).thenReturn(LedgerStockDTO.builder()
+                .productId(1L)
+                .productName("Radish")
+                .at(at)
+                .quantity(42L)
+                .replayedTransactions(3L)
+                .build());
+
+        mockMvc.perform(get("/inventories/Radish/ledger-stock").param("at", "2025-03-01T12:00:00"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.quantity").value(42))
+                .andExpect(jsonPath("$.replayedTransactions").value(3));
+    }
 
+    @Test
+    @WithMockUser(username = "dev@teste.com", roles = "EMPLOYEE")
+    void testInventoryController_WhenApplyForecastByProductName_ShouldReturnUpdatedMinimum() throws Exception {
+        when(productService.getProductByName("Radish")).thenReturn(product);
+        when(consumptionForecastService.applySuggestedMinimum(product)).thenReturn(ConsumptionForecastDTO.builder()
+                .productId(1L)
+                .productName("Radish")
+                .averageDailyConsumption(4.0)
+                .daysOfCover(5.0)
+                .minQuantityOnStock(11L)
+                .suggestedMinQuantityOnStock(11L)
+                .build());
+
+        mockMvc.perform(post("/inventories/Radish/forecast/apply"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.minQuantityOnStock").value(11))
+                .andExpect(jsonPath("$.daysOfCover").value(5.0));
+    }
+}
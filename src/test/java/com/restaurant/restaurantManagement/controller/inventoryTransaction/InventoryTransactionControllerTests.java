@@ -3,12 +3,20 @@ package com.restaurant.restaurantManagement.controller.inventoryTransaction;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.restaurant.restaurantManagement.configuration.security.SecurityConfig;
 import com.restaurant.restaurantManagement.controller.InventoryTransactionController;
+import com.restaurant.restaurantManagement.enums.BatchTransactionMode;
+import com.restaurant.restaurantManagement.enums.ExportFormat;
 import com.restaurant.restaurantManagement.enums.MeasurementUnit;
 import com.restaurant.restaurantManagement.enums.TransactionMotivation;
 import com.restaurant.restaurantManagement.enums.TransactionType;
+import com.restaurant.restaurantManagement.model.dto.inventoryTransaction.BatchTransactionResultDTO;
+import com.restaurant.restaurantManagement.model.dto.inventoryTransaction.ConsumptionSummaryDTO;
 import com.restaurant.restaurantManagement.model.dto.inventoryTransaction.GetInventoryTransactionDTO;
+import com.restaurant.restaurantManagement.model.dto.inventoryTransaction.TransactionPageDTO;
 import com.restaurant.restaurantManagement.repository.ProductRepository;
+import com.restaurant.restaurantManagement.service.ConsumptionRollupService;
 import com.restaurant.restaurantManagement.service.InventoryTransactionService;
+import com.restaurant.restaurantManagement.service.TransactionExportService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -19,22 +27,34 @@ import org.springframework.http.MediaType;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.web.servlet.MockMvc;
 
+import java.io.OutputStream;
 import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 
-@Import(SecurityConfig.class)
-@WebMvcTest(InventoryTransactionController.class)
+@Import({SecurityConfig.class, SimpleMeterRegistry.class})
+@WebMvcTest(controllers = InventoryTransactionController.class, properties = "security.token.secret=1X9UuyRDKZUkPlfqLetJzIp1tA1kIbWrSrS3ZwIo61w=")
 public class InventoryTransactionControllerTests {
 
     @Autowired
@@ -49,6 +69,12 @@ public class InventoryTransactionControllerTests {
     @MockBean
     private InventoryTransactionService inventoryTransactionService;
 
+    @MockBean
+    private TransactionExportService transactionExportService;
+
+    @MockBean
+    private ConsumptionRollupService consumptionRollupService;
+
     private GetInventoryTransactionDTO transactionDTO;
 
     @BeforeEach
@@ -75,23 +101,40 @@ public class InventoryTransactionControllerTests {
     @Test
     @WithMockUser(username = "dev@teste.com", roles = "OWNER")
     void testInventoryTransactionController_WhenGetTransactionsByProductId_ShouldReturnAListOfProducts() throws Exception {
-        when(inventoryTransactionService.getTransactionsByProductId(1L))
-                .thenReturn(List.of(transactionDTO));
+        when(inventoryTransactionService.getTransactionsByProductId(1L, null, null, null, 50))
+                .thenReturn(TransactionPageDTO.builder().content(List.of(transactionDTO)).size(1).hasNext(true).nextCursor("next").build());
 
         mockMvc.perform(get("/inventory-transactions/product/1"))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$[0].product.name").value("Tomato"))
-                .andExpect(jsonPath("$[0].quantity").value(10));
+                .andExpect(jsonPath("$.content[0].product.name").value("Tomato"))
+                .andExpect(jsonPath("$.content[0].quantity").value(10))
+                .andExpect(jsonPath("$.nextCursor").value("next"));
     }
 
     @Test
     @WithMockUser(username = "dev@teste.com", roles = "OWNER")
     void testInventoryTransactionController_WhenGetTransactionsByResponsibleId_ShouldReturnAListOfProducts() throws Exception {
-        when(inventoryTransactionService.getTransactionsByResponsibleId(1L)).thenReturn(List.of(transactionDTO));
+        when(inventoryTransactionService.getTransactionsByResponsibleId(1L, null, null, null, 50))
+                .thenReturn(TransactionPageDTO.builder().content(List.of(transactionDTO)).size(1).build());
         mockMvc.perform(get("/inventory-transactions/responsible/1"))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$[0].responsible.name").value("João da Silva"))
-                .andExpect(jsonPath("$[0].quantity").value(10));
+                .andExpect(jsonPath("$.content[0].responsible.name").value("João da Silva"))
+                .andExpect(jsonPath("$.content[0].quantity").value(10));
+    }
+
+    @Test
+    @WithMockUser(username = "dev@teste.com", roles = "OWNER")
+    void testInventoryTransactionController_WhenGetTransactionsWithDateRangeAndCursor_ShouldPassThemToService() throws Exception {
+        when(inventoryTransactionService.getTransactionsByProductId(1L, LocalDateTime.of(2025, 1, 1, 0, 0),
+                LocalDateTime.of(2025, 2, 1, 0, 0), "abc", 20))
+                .thenReturn(TransactionPageDTO.builder().content(List.of()).build());
+
+        mockMvc.perform(get("/inventory-transactions/product/1")
+                        .param("from", "2025-01-01T00:00:00")
+                        .param("to", "2025-02-01T00:00:00")
+                        .param("cursor", "abc")
+                        .param("size", "20"))
+                .andExpect(status().isNoContent());
     }
 
     @Test
@@ -105,4 +148,73 @@ public class InventoryTransactionControllerTests {
         verify(inventoryTransactionService, times(1)).registerTransaction(any(GetInventoryTransactionDTO.class));
     }
 
+    @Test
+    @WithMockUser(username = "dev@teste.com", roles = "EMPLOYEE")
+    void testInventoryTransactionController_WhenRegisterBatchPerLine_ShouldReturnLineResults() throws Exception {
+        var result = BatchTransactionResultDTO.builder()
+                .mode(BatchTransactionMode.PER_LINE)
+                .registered(1)
+                .rejected(1)
+                .lines(List.of(
+                        BatchTransactionResultDTO.LineResultDTO.builder().line(0).productId(1L).registered(true).currentStock(20L).build(),
+                        BatchTransactionResultDTO.LineResultDTO.builder().line(1).productId(9L).registered(false).error("Product not found: 9").build()))
+                .build();
+        when(inventoryTransactionService.registerTransactions(anyList(), eq(BatchTransactionMode.PER_LINE))).thenReturn(result);
+
+        mockMvc.perform(post("/inventory-transactions/batch")
+                        .param("mode", "PER_LINE")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(List.of(transactionDTO, transactionDTO))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.registered").value(1))
+                .andExpect(jsonPath("$.lines[1].error").value("Product not found: 9"));
+    }
+
+    @Test
+    @WithMockUser(username = "dev@teste.com", roles = "OWNER")
+    void testInventoryTransactionController_WhenExportingAsCsv_ShouldStreamServiceOutput() throws Exception {
+        doAnswer(invocation -> {
+            invocation.getArgument(3, OutputStream.class).write("id\n1\n".getBytes(StandardCharsets.UTF_8));
+            return null;
+        }).when(transactionExportService).exportTransactions(any(), any(), eq(ExportFormat.CSV), any());
+
+        var result = mockMvc.perform(get("/inventory-transactions/export"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Disposition", "attachment; filename=\"inventory-transactions.csv\""))
+                .andExpect(content().string("id\n1\n"));
+    }
+
+    @Test
+    @WithMockUser(username = "dev@teste.com", roles = "EMPLOYEE")
+    void testInventoryTransactionController_WhenEmployeeExports_ShouldReturnForbidden() throws Exception {
+        mockMvc.perform(get("/inventory-transactions/export"))
+                .andExpect(status().isForbidden());
+        verifyNoInteractions(transactionExportService);
+    }
+
+    @Test
+    @WithMockUser(username = "dev@teste.com", roles = "OWNER")
+    void testInventoryTransactionController_WhenGetConsumptionSummary_ShouldReturnRollupRows() throws Exception {
+        when(consumptionRollupService.getConsumptionSummary(LocalDate.of(2025, 1, 1), LocalDate.of(2025, 12, 31), TransactionMotivation.WASTE))
+                .thenReturn(List.of(ConsumptionSummaryDTO.builder()
+                        .productId(1L)
+                        .productName("Tomato")
+                        .motivation(TransactionMotivation.WASTE)
+                        .quantity(12L)
+                        .value(new BigDecimal("30.00"))
+                        .transactions(4L)
+                        .build()));
+
+        mockMvc.perform(get("/inventory-transactions/consumption")
+                        .param("from", "2025-01-01")
+                        .param("to", "2025-12-31")
+                        .param("motivation", "WASTE"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].productName").value("Tomato"))
+                .andExpect(jsonPath("$[0].quantity").value(12));
+    }
 }
@@ -9,14 +9,20 @@ import com.restaurant.restaurantManagement.enums.ProductCategory;
 import com.restaurant.restaurantManagement.exception.ResourceNotFoundException;
 import com.restaurant.restaurantManagement.model.dto.product.CreateProductDTO;
 import com.restaurant.restaurantManagement.model.dto.product.GetProductDTO;
+import com.restaurant.restaurantManagement.model.dto.product.ProductNameDTO;
+import com.restaurant.restaurantManagement.model.dto.product.ProductPageDTO;
 import com.restaurant.restaurantManagement.model.dto.product.UpdateProductDTO;
 import com.restaurant.restaurantManagement.service.ProductService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.http.MediaType;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.web.servlet.MockMvc;
@@ -32,8 +38,8 @@ import static org.springframework.test.web.servlet.request.MockMvcRequestBuilder
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
-@Import(SecurityConfig.class)
-@WebMvcTest(ProductController.class)
+@Import({SecurityConfig.class, SimpleMeterRegistry.class})
+@WebMvcTest(controllers = ProductController.class, properties = "security.token.secret=1X9UuyRDKZUkPlfqLetJzIp1tA1kIbWrSrS3ZwIo61w=")
 public class ProductControllerTests {
 
     @MockBean
@@ -75,18 +81,43 @@ public class ProductControllerTests {
     @Test
     @WithMockUser(username = "dev@teste.com", roles = {"OWNER"})
     void testProductController_WhenGetAllProducts_ShouldReturnAListWithAllExistingProducts() throws Exception {
-        when(productService.getAllProducts()).thenReturn(List.of(product1, product2));
+        when(productService.getAllProducts(any(Pageable.class)))
+                .thenReturn(ProductPageDTO.builder().content(List.of(product1, product2)).size(2).page(0).totalElements(2L).totalPages(1).build());
 
         mockMvc.perform(get("/products"))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$[0].name").value("Chicken"))
-                .andExpect(jsonPath("$[1].name").value("Corn"));
+                .andExpect(jsonPath("$.content[0].name").value("Chicken"))
+                .andExpect(jsonPath("$.content[1].name").value("Corn"))
+                .andExpect(jsonPath("$.totalElements").value(2));
+    }
+
+    @Test
+    @WithMockUser(username = "dev@teste.com", roles = {"OWNER"})
+    void testProductController_WhenGetAllProductsWithPageAndSort_ShouldPassThemToService() throws Exception {
+        when(productService.getAllProducts(PageRequest.of(2, 10, Sort.by(Sort.Direction.DESC, "price"))))
+                .thenReturn(ProductPageDTO.builder().content(List.of(product1)).size(1).page(2).build());
+
+        mockMvc.perform(get("/products").param("page", "2").param("size", "10").param("sort", "price,desc"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.page").value(2));
+    }
+
+    @Test
+    @WithMockUser(username = "dev@teste.com", roles = {"EMPLOYEE"})
+    void testProductController_WhenGetAllProductsInKeysetMode_ShouldReturnNextCursor() throws Exception {
+        when(productService.getProductsAfter("abc", 20))
+                .thenReturn(ProductPageDTO.builder().content(List.of(product2)).size(1).hasNext(true).nextCursor("def").build());
+
+        mockMvc.perform(get("/products").param("mode", "KEYSET").param("cursor", "abc").param("size", "20"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].name").value("Corn"))
+                .andExpect(jsonPath("$.nextCursor").value("def"));
     }
 
     @Test
     @WithMockUser(username = "dev@teste.com", roles = {"OWNER"})
     void testProductController_WhenGetAllProductsWithNoExistingProducts_ShouldReturnNoContent() throws Exception {
-        when(productService.getAllProducts()).thenReturn(List.of());
+        when(productService.getAllProducts(any(Pageable.class))).thenReturn(ProductPageDTO.builder().content(List.of()).build());
         mockMvc.perform(get("/products"))
                 .andExpect(status().isNoContent());
     }
@@ -181,4 +212,24 @@ public class ProductControllerTests {
                 .andExpect(jsonPath("$[0].category").value(ProductCategory.MEAT.toString()));
     }
 
+    @Test
+    @WithMockUser(username = "dev@teste.com", roles = {"EMPLOYEE"})
+    void testProductController_WhenSearchingInRankedMode_ShouldReturnRankedProducts() throws Exception {
+        when(productService.searchProductsRanked("chiken", null, null, 5)).thenReturn(List.of(product1));
+
+        mockMvc.perform(get("/products/search").param("name", "chiken").param("mode", "RANKED").param("limit", "5"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].name").value("Chicken"));
+    }
+
+    @Test
+    @WithMockUser(username = "dev@teste.com", roles = {"EMPLOYEE"})
+    void testProductController_WhenRequestingTypeahead_ShouldReturnSuggestions() throws Exception {
+        when(productService.suggestProductNames("chi", 10)).thenReturn(List.of(new ProductNameDTO(1L, "Chicken")));
+
+        mockMvc.perform(get("/products/typeahead").param("prefix", "chi"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].id").value(1))
+                .andExpect(jsonPath("$[0].name").value("Chicken"));
+    }
 }
@@ -9,6 +9,7 @@ import com.restaurant.restaurantManagement.model.dto.user.CreateUserDTO;
 import com.restaurant.restaurantManagement.model.dto.user.GetUserDTO;
 import com.restaurant.restaurantManagement.model.dto.user.UpdateUserDTO;
 import com.restaurant.restaurantManagement.service.UserService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -30,8 +31,8 @@ import static org.springframework.test.web.servlet.request.MockMvcRequestBuilder
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 
-@Import(SecurityConfig.class)
-@WebMvcTest(UserController.class)
+@Import({SecurityConfig.class, SimpleMeterRegistry.class})
+@WebMvcTest(controllers = UserController.class, properties = "security.token.secret=1X9UuyRDKZUkPlfqLetJzIp1tA1kIbWrSrS3ZwIo61w=")
 public class UserControllerTests {
 
     @MockBean
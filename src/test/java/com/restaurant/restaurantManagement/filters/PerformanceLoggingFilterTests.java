@@ -0,0 +1,67 @@
+package com.restaurant.restaurantManagement.filters;
+
+import com.restaurant.restaurantManagement.configuration.RouteLatencyEndpoint;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class PerformanceLoggingFilterTests {
+
+    private SimpleMeterRegistry meterRegistry;
+    private PerformanceLoggingFilter performanceLoggingFilter;
+
+    @BeforeEach
+    void setup() {
+        meterRegistry = new SimpleMeterRegistry();
+        performanceLoggingFilter = new PerformanceLoggingFilter(meterRegistry, Duration.ofSeconds(1));
+    }
+
+    @Test
+    void testPerformanceLoggingFilter_WhenRequestMatchesAHandler_ShouldRecordLatencyUnderTheRoutePattern() throws Exception {
+        for (long id = 1; id <= 3; id++) {
+            performanceLoggingFilter.doFilter(new MockHttpServletRequest("GET", "/products/" + id), new MockHttpServletResponse(),
+                    (request, response) -> request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/products/{id}"));
+        }
+
+        var timer = meterRegistry.get(PerformanceLoggingFilter.ROUTE_LATENCY_METRIC)
+                .tag("method", "GET")
+                .tag("route", "/products/{id}")
+                .tag("status", "200")
+                .timer();
+        assertEquals(3, timer.count());
+        assertEquals(1, meterRegistry.find(PerformanceLoggingFilter.ROUTE_LATENCY_METRIC).timers().size());
+    }
+
+    @Test
+    void testPerformanceLoggingFilter_WhenNoHandlerMatches_ShouldRecordUnderUnmatchedRoute() throws Exception {
+        var response = new MockHttpServletResponse();
+        response.setStatus(404);
+
+        performanceLoggingFilter.doFilter(new MockHttpServletRequest("GET", "/missing"), response, (req, res) -> {});
+
+        assertEquals(1, meterRegistry.get(PerformanceLoggingFilter.ROUTE_LATENCY_METRIC)
+                .tag("route", PerformanceLoggingFilter.UNMATCHED_ROUTE)
+                .tag("status", "404")
+                .timer().count());
+    }
+
+    @Test
+    void testPerformanceLoggingFilter_WhenReadingLatencyEndpoint_ShouldReportPercentilesPerRoute() throws Exception {
+        performanceLoggingFilter.doFilter(new MockHttpServletRequest("GET", "/products"), new MockHttpServletResponse(),
+                (request, response) -> request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/products"));
+
+        var latencies = new RouteLatencyEndpoint(meterRegistry).routeLatencies();
+
+        assertEquals(1, latencies.size());
+        assertEquals("/products", latencies.getFirst().route());
+        assertEquals(1, latencies.getFirst().count());
+        assertTrue(latencies.getFirst().max() >= latencies.getFirst().p50());
+    }
+}
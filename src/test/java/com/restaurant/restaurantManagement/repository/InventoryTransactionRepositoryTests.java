@@ -0,0 +1,122 @@
+package com.restaurant.restaurantManagement.repository;
+
+import com.restaurant.restaurantManagement.enums.MeasurementUnit;
+import com.restaurant.restaurantManagement.enums.ProductCategory;
+import com.restaurant.restaurantManagement.enums.TransactionMotivation;
+import com.restaurant.restaurantManagement.enums.TransactionType;
+import com.restaurant.restaurantManagement.enums.UserProfile;
+import com.restaurant.restaurantManagement.model.entity.InventoryTransaction;
+import com.restaurant.restaurantManagement.model.entity.Product;
+import com.restaurant.restaurantManagement.model.entity.User;
+import com.restaurant.restaurantManagement.model.mapper.InventoryTransactionMapper;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Limit;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest(properties = {
+        "spring.flyway.enabled=false",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+public class InventoryTransactionRepositoryTests {
+
+    private static final LocalDateTime FROM = LocalDateTime.of(2000, 1, 1, 0, 0);
+    private static final LocalDateTime BEFORE = LocalDateTime.of(3000, 1, 1, 0, 0);
+
+    @Autowired
+    private InventoryTransactionRepository inventoryTransactionRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private final InventoryTransactionMapper inventoryTransactionMapper = new InventoryTransactionMapper();
+
+    private Statistics statistics;
+    private Product tomato;
+
+    @BeforeEach
+    void setup() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        tomato = Product.builder()
+                .name("Tomato")
+                .category(ProductCategory.PERISHABLES)
+                .measurementUnit(MeasurementUnit.KILOGRAM)
+                .price(BigDecimal.valueOf(9.99))
+                .minQuantityOnStock(2L)
+                .build();
+        entityManager.persist(tomato);
+    }
+
+    @Test
+    void testInventoryTransactionRepository_WhenListingHistory_ShouldUseOneStatementRegardlessOfRowCount() {
+        registerTransactions(5);
+        assertEquals(1, countStatementsForHistoryPage(5));
+
+        registerTransactions(100);
+        assertEquals(1, countStatementsForHistoryPage(105));
+    }
+
+    @Test
+    void testInventoryTransactionRepository_WhenListingHistory_ShouldLoadProductAndResponsibleDetails() {
+        registerTransactions(1);
+        entityManager.flush();
+        entityManager.clear();
+
+        var row = inventoryTransactionRepository.findPageByProductId(tomato.getId(), FROM, BEFORE, Long.MIN_VALUE, Limit.of(1)).getFirst();
+
+        assertEquals("Tomato", row.productName());
+        assertEquals(MeasurementUnit.KILOGRAM, row.productMeasurementUnit());
+        assertEquals("Cook 0", row.responsibleName());
+        assertEquals(UserProfile.EMPLOYEE, row.responsibleProfile());
+    }
+
+    private long countStatementsForHistoryPage(int expectedRows) {
+        entityManager.flush();
+        entityManager.clear();
+        statistics.clear();
+
+        var transactions = inventoryTransactionRepository
+                .findPageByProductId(tomato.getId(), FROM, BEFORE, Long.MIN_VALUE, Limit.of(500)).stream()
+                .map(inventoryTransactionMapper::toGetInventoryTransactionDTO)
+                .toList();
+
+        assertEquals(expectedRows, transactions.size());
+        return statistics.getPrepareStatementCount();
+    }
+
+    private void registerTransactions(int count) {
+        var product = entityManager.find(Product.class, tomato.getId());
+        for (int i = 0; i < count; i++) {
+            var cook = User.builder()
+                    .name("Cook " + i)
+                    .email("cook" + i + "@email.com")
+                    .profile(UserProfile.EMPLOYEE)
+                    .build();
+            entityManager.persist(cook);
+            entityManager.persist(InventoryTransaction.builder()
+                    .product(product)
+                    .responsible(cook)
+                    .type(TransactionType.OUTBOUND)
+                    .quantity(1L)
+                    .unitPrice(BigDecimal.ONE)
+                    .motivation(TransactionMotivation.CONSUMPTION)
+                    .transactionDateAndTime(LocalDateTime.of(2025, 1, 1, 0, 0).plusMinutes(i))
+                    .build());
+        }
+    }
+}
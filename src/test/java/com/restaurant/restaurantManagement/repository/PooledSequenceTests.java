@@ -0,0 +1,61 @@
+package com.restaurant.restaurantManagement.repository;
+
+import com.restaurant.restaurantManagement.configuration.sql.SqlInstrumentationConfiguration;
+import com.restaurant.restaurantManagement.configuration.sql.SqlStatementRecorder;
+import com.restaurant.restaurantManagement.enums.MeasurementUnit;
+import com.restaurant.restaurantManagement.enums.ProductCategory;
+import com.restaurant.restaurantManagement.model.entity.Product;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest(properties = {
+        "spring.flyway.enabled=false",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect"
+})
+@Import(SqlInstrumentationConfiguration.class)
+public class PooledSequenceTests {
+
+    private static final int PRODUCTS = 120;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    void testPooledSequence_WhenPersistingMoreThanOneAllocation_ShouldAssignUniqueIdsWithFewRoundTrips() {
+        List<Product> products = new ArrayList<>();
+        var statistics = SqlStatementRecorder.record(() -> {
+            for (int i = 0; i < PRODUCTS; i++) {
+                var product = product("Product " + i);
+                entityManager.persist(product);
+                products.add(product);
+            }
+            entityManager.flush();
+        });
+
+        var ids = products.stream().map(Product::getId).toList();
+        assertEquals(PRODUCTS, new HashSet<>(ids).size());
+        assertEquals(PRODUCTS - 1, ids.getLast() - ids.getFirst());
+        assertTrue(statistics.statements() < PRODUCTS / 10, statistics::toString);
+    }
+
+    private Product product(String name) {
+        return Product.builder()
+                .name(name)
+                .category(ProductCategory.PERISHABLES)
+                .measurementUnit(MeasurementUnit.KILOGRAM)
+                .price(BigDecimal.TEN)
+                .minQuantityOnStock(5L)
+                .build();
+    }
+}
@@ -0,0 +1,69 @@
+package com.restaurant.restaurantManagement.repository;
+
+import com.restaurant.restaurantManagement.enums.MeasurementUnit;
+import com.restaurant.restaurantManagement.enums.ProductCategory;
+import com.restaurant.restaurantManagement.model.entity.Product;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+import java.math.BigDecimal;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest(properties = {
+        "spring.flyway.enabled=false",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect"
+})
+public class ProductRepositoryTests {
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @BeforeEach
+    void setup() {
+        persistProduct("Tomato Sauce", ProductCategory.CONDIMENTS, MeasurementUnit.UNIT);
+        persistProduct("Cherry Tomato", ProductCategory.PERISHABLES, MeasurementUnit.KILOGRAM);
+        persistProduct("Flour 50% whole", ProductCategory.BAKERY, MeasurementUnit.KILOGRAM);
+        persistProduct("Flour 500 white", ProductCategory.BAKERY, MeasurementUnit.KILOGRAM);
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void testProductRepository_WhenFilteringByNameAndCategory_ShouldReturnOnlyMatchingProducts() {
+        var products = productRepository.findAll(ProductSpecifications.byFilters("TOMATO", ProductCategory.PERISHABLES, null));
+
+        assertEquals(1, products.size());
+        assertEquals("Cherry Tomato", products.getFirst().getName());
+    }
+
+    @Test
+    void testProductRepository_WhenNoFilterIsSupplied_ShouldReturnAllProducts() {
+        assertEquals(4, productRepository.findAll(ProductSpecifications.byFilters(" ", null, null)).size());
+    }
+
+    @Test
+    void testProductRepository_WhenNameContainsLikeWildcard_ShouldMatchItLiterally() {
+        var products = productRepository.findAll(ProductSpecifications.byFilters("50%", null, MeasurementUnit.KILOGRAM));
+
+        assertEquals(1, products.size());
+        assertEquals("Flour 50% whole", products.getFirst().getName());
+    }
+
+    private void persistProduct(String name, ProductCategory category, MeasurementUnit measurementUnit) {
+        entityManager.persist(Product.builder()
+                .name(name)
+                .category(category)
+                .measurementUnit(measurementUnit)
+                .price(BigDecimal.TEN)
+                .minQuantityOnStock(1L)
+                .build());
+    }
+}
@@ -0,0 +1,71 @@
+package com.restaurant.restaurantManagement.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class ProductSearchRepositoryImplTests {
+
+    @Mock
+    private EntityManager entityManager;
+
+    @Mock(answer = org.mockito.Answers.RETURNS_SELF)
+    private Query query;
+
+    @InjectMocks
+    private ProductSearchRepositoryImpl productSearchRepository;
+
+    @Test
+    void testSearchRankedIdsByName_WhenNoFilterIsSupplied_ShouldNotPutFilterPredicatesInTheQuery() {
+        var sql = search(null, null);
+
+        assertFalse(sql.contains("IS NULL"));
+        assertFalse(sql.contains(":category"));
+        assertFalse(sql.contains(":measurementUnit"));
+        verify(query, never()).setParameter(eq("category"), any());
+        verify(query, never()).setParameter(eq("measurementUnit"), any());
+    }
+
+    @Test
+    void testSearchRankedIdsByName_WhenOnlyCategoryIsSupplied_ShouldFilterByCategoryOnly() {
+        var sql = search("BAKERY", null);
+
+        assertTrue(sql.contains("AND p.category = :category"));
+        assertFalse(sql.contains(":measurementUnit"));
+        verify(query).setParameter("category", "BAKERY");
+    }
+
+    @Test
+    void testSearchRankedIdsByName_WhenBothFiltersAreSupplied_ShouldFilterByBoth() {
+        var sql = search("BAKERY", "KILOGRAM");
+
+        assertTrue(sql.contains("AND p.category = :category"));
+        assertTrue(sql.contains("AND p.measurement_unit = :measurementUnit"));
+        assertFalse(sql.contains("IS NULL"));
+        verify(query).setParameter("measurementUnit", "KILOGRAM");
+    }
+
+    private String search(String category, String measurementUnit) {
+        when(entityManager.createNativeQuery(anyString(), eq(Long.class))).thenReturn(query);
+        when(query.getResultList()).thenReturn(List.of(9L, 4L));
+
+        assertEquals(List.of(9L, 4L), productSearchRepository.searchRankedIdsByName("flour", "flour", category, measurementUnit, 10));
+
+        var sql = ArgumentCaptor.forClass(String.class);
+        verify(entityManager).createNativeQuery(sql.capture(), eq(Long.class));
+        verify(query).setParameter("limit", 10);
+        return sql.getValue();
+    }
+}
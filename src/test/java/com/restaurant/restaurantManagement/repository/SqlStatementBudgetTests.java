@@ -0,0 +1,99 @@
+package com.restaurant.restaurantManagement.repository;
+
+import com.restaurant.restaurantManagement.configuration.sql.SqlInstrumentationConfiguration;
+import com.restaurant.restaurantManagement.configuration.sql.SqlStatementRecorder;
+import com.restaurant.restaurantManagement.enums.MeasurementUnit;
+import com.restaurant.restaurantManagement.enums.ProductCategory;
+import com.restaurant.restaurantManagement.model.entity.Inventory;
+import com.restaurant.restaurantManagement.model.entity.Product;
+import com.restaurant.restaurantManagement.model.mapper.InventoryMapper;
+import com.restaurant.restaurantManagement.model.mapper.ProductMapper;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest(properties = {
+        "spring.flyway.enabled=false",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect"
+})
+@Import(SqlInstrumentationConfiguration.class)
+public class SqlStatementBudgetTests {
+
+    private static final int PRODUCTS = 20;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private InventoryRepository inventoryRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private final ProductMapper productMapper = new ProductMapper();
+    private final InventoryMapper inventoryMapper = new InventoryMapper();
+
+    @BeforeEach
+    void setup() {
+        for (int i = 0; i < PRODUCTS; i++) {
+            var product = Product.builder()
+                    .name("Product " + i)
+                    .category(ProductCategory.PERISHABLES)
+                    .measurementUnit(MeasurementUnit.KILOGRAM)
+                    .price(BigDecimal.TEN)
+                    .minQuantityOnStock(5L)
+                    .build();
+            entityManager.persist(product);
+            entityManager.persist(Inventory.builder().product(product).currentQuantity(1L).lastUpdatedAt(LocalDateTime.now()).build());
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void testSqlStatementBudget_WhenSearchingAndMappingProducts_ShouldUseOneStatement() {
+        var statistics = SqlStatementRecorder.record(() -> productRepository
+                .findAll(ProductSpecifications.byFilters("product", ProductCategory.PERISHABLES, null))
+                .forEach(productMapper::toGetProductDTO));
+
+        assertEquals(1, statistics.statements(), statistics::toString);
+        assertEquals(PRODUCTS, statistics.rows());
+    }
+
+    @Test
+    void testSqlStatementBudget_WhenListingAndMappingInventoriesByCategory_ShouldUseOneStatement() {
+        var statistics = SqlStatementRecorder.record(() -> inventoryRepository
+                .findByProductCategoryIgnoreCase(ProductCategory.PERISHABLES)
+                .forEach(inventoryMapper::toGetInventoryDTO));
+
+        assertEquals(1, statistics.statements(), statistics::toString);
+    }
+
+    @Test
+    void testSqlStatementBudget_WhenListingAndMappingLowStockInventories_ShouldUseOneStatement() {
+        var statistics = SqlStatementRecorder.record(() -> inventoryRepository
+                .findWithLowStock()
+                .forEach(inventoryMapper::toGetInventoryDTO));
+
+        assertEquals(1, statistics.statements(), statistics::toString);
+    }
+
+    @Test
+    void testSqlStatementBudget_WhenFindingAndMappingInventoryByProductName_ShouldUseOneStatement() {
+        var statistics = SqlStatementRecorder.record(() -> inventoryRepository
+                .findByProductName("product 7")
+                .map(inventoryMapper::toGetInventoryDTO)
+                .orElseThrow());
+
+        assertEquals(1, statistics.statements(), statistics::toString);
+    }
+}
@@ -0,0 +1,82 @@
+package com.restaurant.restaurantManagement.service;
+
+import com.restaurant.restaurantManagement.configuration.security.TokenService;
+import com.restaurant.restaurantManagement.configuration.security.UserDetailsService;
+import com.restaurant.restaurantManagement.exception.InvalidTokenException;
+import com.restaurant.restaurantManagement.exception.OperationNotAllowedException;
+import com.restaurant.restaurantManagement.model.dto.auth.TokenDTO;
+import com.restaurant.restaurantManagement.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.security.web.authentication.preauth.PreAuthenticatedAuthenticationToken;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class AuthServiceTests {
+
+    @Mock
+    private TokenService tokenService;
+
+    @Mock
+    private UserDetailsService userDetailsService;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @InjectMocks
+    private AuthService authService;
+
+    @Test
+    void testAuthService_WhenIssuingTokensForABearerAuthentication_ShouldThrowOperationNotAllowedException() {
+        var authentication = new PreAuthenticatedAuthenticationToken("alice@email.com", "token", List.of());
+
+        assertThrows(OperationNotAllowedException.class, () -> authService.issueTokens(authentication));
+        verifyNoInteractions(tokenService);
+    }
+
+    @Test
+    void testAuthService_WhenRefreshingTokens_ShouldIssueThemWithCurrentAuthorities() {
+        var authorities = List.of(new SimpleGrantedAuthority("ROLE_OWNER"));
+        var tokens = TokenDTO.builder().accessToken("access").build();
+        when(tokenService.verifyRefreshToken("refresh")).thenReturn(new TokenService.RefreshToken("alice@email.com", 2));
+        when(userRepository.findTokenVersionByEmail("alice@email.com")).thenReturn(Optional.of(2L));
+        when(userDetailsService.loadUserByUsername("alice@email.com")).thenReturn(new User("alice@email.com", "hash", authorities));
+        doReturn(tokens).when(tokenService).issueTokens(eq("alice@email.com"), argThat(granted -> granted.containsAll(authorities)), eq(2L));
+
+        assertEquals(tokens, authService.refreshTokens("refresh"));
+    }
+
+    @Test
+    void testAuthService_WhenRefreshingTokensOfADeletedUser_ShouldThrowInvalidTokenException() {
+        when(tokenService.verifyRefreshToken("refresh")).thenReturn(new TokenService.RefreshToken("alice@email.com", 0));
+        when(userRepository.findTokenVersionByEmail("alice@email.com")).thenReturn(Optional.empty());
+
+        assertThrows(InvalidTokenException.class, () -> authService.refreshTokens("refresh"));
+        verifyNoInteractions(userDetailsService);
+    }
+
+    @Test
+    void testAuthService_WhenRefreshingTokensIssuedBeforeAPasswordChange_ShouldThrowInvalidTokenException() {
+        when(tokenService.verifyRefreshToken("refresh")).thenReturn(new TokenService.RefreshToken("alice@email.com", 0));
+        when(userRepository.findTokenVersionByEmail("alice@email.com")).thenReturn(Optional.of(1L));
+
+        var exc = assertThrows(InvalidTokenException.class, () -> authService.refreshTokens("refresh"));
+        assertTrue(exc.getMessage().contains("revoked"));
+        verify(tokenService, never()).issueTokens(any(), any(), anyLong());
+    }
+}
@@ -0,0 +1,156 @@
+package com.restaurant.restaurantManagement.service;
+
+import com.restaurant.restaurantManagement.exception.BusinessException;
+import com.restaurant.restaurantManagement.model.dto.inventoryTransaction.DailyQuantityDTO;
+import com.restaurant.restaurantManagement.model.entity.ConsumptionForecast;
+import com.restaurant.restaurantManagement.model.entity.Inventory;
+import com.restaurant.restaurantManagement.model.entity.Product;
+import com.restaurant.restaurantManagement.repository.ConsumptionForecastRepository;
+import com.restaurant.restaurantManagement.repository.DailyConsumptionRepository;
+import com.restaurant.restaurantManagement.repository.ProductRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class ConsumptionForecastServiceTests {
+
+    private static final double SMOOTHING_FACTOR = 2.0 / 29;
+
+    @Mock
+    private ConsumptionForecastRepository consumptionForecastRepository;
+
+    @Mock
+    private DailyConsumptionRepository dailyConsumptionRepository;
+
+    @Mock
+    private ProductRepository productRepository;
+
+    @Mock
+    private InventoryService inventoryService;
+
+    @Captor
+    private ArgumentCaptor<List<ConsumptionForecast>> forecastsCaptor;
+
+    private LocalDate yesterday;
+    private Product tomato;
+
+    @BeforeEach
+    void setup() {
+        yesterday = LocalDate.now().minusDays(1);
+        tomato = Product.builder().id(1L).name("Tomato").minQuantityOnStock(5L).build();
+        tomato.setInventory(Inventory.builder().product(tomato).currentQuantity(30L).build());
+    }
+
+    @Test
+    void testConsumptionForecastService_WhenNoForecastExists_ShouldWarmUpFromRollup() {
+        var warmUpStart = yesterday.minusDays(84);
+        var days = new ArrayList<DailyQuantityDTO>();
+        for (var day = warmUpStart.plusDays(1); !day.isAfter(yesterday); day = day.plusDays(1)) {
+            days.add(new DailyQuantityDTO(1L, day, 10L));
+        }
+        when(consumptionForecastRepository.tryLockForRefresh()).thenReturn(true);
+        when(consumptionForecastRepository.findAll()).thenReturn(List.of());
+        when(dailyConsumptionRepository.sumDailyQuantities(warmUpStart, yesterday)).thenReturn(days);
+
+        service(false).refreshForecasts();
+
+        verify(consumptionForecastRepository).saveAll(forecastsCaptor.capture());
+        var forecast = forecastsCaptor.getValue().getFirst();
+        assertEquals(1L, forecast.getProductId());
+        assertEquals(10.0, forecast.getAverageDailyQuantity(), 0.05);
+        assertEquals(yesterday, forecast.getSmoothedThrough());
+    }
+
+    @Test
+    void testConsumptionForecastService_WhenForecastIsOneDayBehind_ShouldFoldOnlyTheLastClosedDay() {
+        var forecast = forecast(10.0, 0.0, yesterday.minusDays(1));
+        var idle = ConsumptionForecast.builder().productId(2L).averageDailyQuantity(4.0).dailyVariance(0.0)
+                .smoothedThrough(yesterday.minusDays(1)).build();
+        when(consumptionForecastRepository.tryLockForRefresh()).thenReturn(true);
+        when(consumptionForecastRepository.findAll()).thenReturn(List.of(forecast, idle));
+        when(dailyConsumptionRepository.sumDailyQuantities(yesterday.minusDays(1), yesterday))
+                .thenReturn(List.of(new DailyQuantityDTO(1L, yesterday, 20L)));
+
+        service(false).refreshForecasts();
+
+        assertEquals(10.0 + SMOOTHING_FACTOR * 10, forecast.getAverageDailyQuantity(), 1e-9);
+        assertEquals((1 - SMOOTHING_FACTOR) * 10 * SMOOTHING_FACTOR * 10, forecast.getDailyVariance(), 1e-9);
+        assertEquals(4.0 * (1 - SMOOTHING_FACTOR), idle.getAverageDailyQuantity(), 1e-9);
+        assertEquals(yesterday, idle.getSmoothedThrough());
+        verifyNoInteractions(productRepository);
+    }
+
+    @Test
+    void testConsumptionForecastService_WhenForecastsAreCurrentAndAutoApplyIsOn_ShouldOnlyApplyMinimums() {
+        when(consumptionForecastRepository.tryLockForRefresh()).thenReturn(true);
+        when(consumptionForecastRepository.findAll()).thenReturn(List.of(forecast(10.0, 4.0, yesterday)));
+        when(productRepository.findAllByIdIn(Set.of(1L))).thenReturn(List.of(tomato));
+
+        service(true).refreshForecasts();
+
+        verify(dailyConsumptionRepository, never()).sumDailyQuantities(any(), any());
+        assertEquals(25L, tomato.getMinQuantityOnStock());
+        verify(inventoryService).notifyOwnersIfStockIsLow(tomato);
+    }
+
+    @Test
+    void testConsumptionForecastService_WhenAnotherInstanceIsRefreshing_ShouldSkipTheRun() {
+        when(consumptionForecastRepository.tryLockForRefresh()).thenReturn(false);
+
+        service(true).refreshForecasts();
+
+        verify(consumptionForecastRepository, never()).findAll();
+        verifyNoInteractions(dailyConsumptionRepository, productRepository, inventoryService);
+    }
+
+    @Test
+    void testConsumptionForecastService_WhenGettingForecast_ShouldComputeDaysOfCover() {
+        when(consumptionForecastRepository.findById(1L)).thenReturn(Optional.of(forecast(10.0, 4.0, yesterday)));
+
+        var forecast = service(false).getForecast(tomato);
+
+        assertEquals(3.0, forecast.daysOfCover(), 1e-9);
+        assertEquals(2.0, forecast.dailyDeviation(), 1e-9);
+        assertEquals(25L, forecast.suggestedMinQuantityOnStock());
+        assertEquals(5L, forecast.minQuantityOnStock());
+    }
+
+    @Test
+    void testConsumptionForecastService_WhenApplyingWithoutForecast_ShouldThrowBusinessException() {
+        when(consumptionForecastRepository.findById(1L)).thenReturn(Optional.empty());
+
+        assertThrows(BusinessException.class, () -> service(false).applySuggestedMinimum(tomato));
+
+        verify(productRepository, never()).save(any());
+    }
+
+    private ConsumptionForecastService service(boolean autoApply) {
+        return new ConsumptionForecastService(consumptionForecastRepository, dailyConsumptionRepository,
+                productRepository, inventoryService, 28, 2, 1.65, autoApply);
+    }
+
+    private ConsumptionForecast forecast(double average, double variance, LocalDate through) {
+        return ConsumptionForecast.builder()
+                .productId(1L)
+                .averageDailyQuantity(average)
+                .dailyVariance(variance)
+                .smoothedThrough(through)
+                .build();
+    }
+}
@@ -0,0 +1,110 @@
+package com.restaurant.restaurantManagement.service;
+
+import com.restaurant.restaurantManagement.enums.TransactionMotivation;
+import com.restaurant.restaurantManagement.enums.TransactionType;
+import com.restaurant.restaurantManagement.exception.BusinessException;
+import com.restaurant.restaurantManagement.model.entity.InventoryTransaction;
+import com.restaurant.restaurantManagement.model.entity.Product;
+import com.restaurant.restaurantManagement.repository.DailyConsumptionRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class ConsumptionRollupServiceTests {
+
+    @Mock
+    private DailyConsumptionRepository dailyConsumptionRepository;
+
+    @InjectMocks
+    private ConsumptionRollupService consumptionRollupService;
+
+    @Test
+    void testConsumptionRollupService_WhenRecordingBatch_ShouldUpsertOneRowPerProductDayAndMotivation() {
+        var morning = LocalDateTime.of(2025, 3, 10, 9, 0);
+        var transactions = List.of(
+                transaction(2L, TransactionType.OUTBOUND, TransactionMotivation.WASTE, 1L, "4.00", morning),
+                transaction(1L, TransactionType.OUTBOUND, TransactionMotivation.CONSUMPTION, 3L, "2.50", morning),
+                transaction(1L, TransactionType.OUTBOUND, null, 2L, null, morning.plusHours(5)),
+                transaction(1L, TransactionType.INBOUND, TransactionMotivation.REPLENISHMENT, 10L, "2.00", morning));
+
+        consumptionRollupService.record(transactions);
+
+        InOrder inOrder = inOrder(dailyConsumptionRepository);
+        inOrder.verify(dailyConsumptionRepository).addConsumption(1L, LocalDate.of(2025, 3, 10), "CONSUMPTION",
+                5L, new BigDecimal("7.50"), 2L);
+        inOrder.verify(dailyConsumptionRepository).addConsumption(2L, LocalDate.of(2025, 3, 10), "WASTE",
+                1L, new BigDecimal("4.00"), 1L);
+        verifyNoMoreInteractions(dailyConsumptionRepository);
+    }
+
+    @Test
+    void testConsumptionRollupService_WhenOnlyInboundTransactions_ShouldNotTouchRollup() {
+        consumptionRollupService.record(List.of(transaction(1L, TransactionType.INBOUND, TransactionMotivation.REPLENISHMENT,
+                10L, "2.00", LocalDateTime.of(2025, 3, 10, 9, 0))));
+
+        verifyNoInteractions(dailyConsumptionRepository);
+    }
+
+    @Test
+    void testConsumptionRollupService_WhenOutboundIsAStockCorrection_ShouldNotCountAsConsumption() {
+        var at = LocalDateTime.of(2025, 3, 10, 9, 0);
+        consumptionRollupService.record(List.of(
+                transaction(1L, TransactionType.OUTBOUND, TransactionMotivation.ADJUSTMENT, 4L, "2.00", at),
+                transaction(1L, TransactionType.OUTBOUND, TransactionMotivation.OPENING_BALANCE, 2L, "2.00", at)));
+
+        verifyNoInteractions(dailyConsumptionRepository);
+    }
+
+    @Test
+    void testConsumptionRollupService_WhenStartIsAfterEnd_ShouldThrowBusinessException() {
+        assertThrows(BusinessException.class, () -> consumptionRollupService.getConsumptionSummary(
+                LocalDate.of(2025, 3, 10), LocalDate.of(2025, 3, 1), null));
+
+        verify(dailyConsumptionRepository, never()).summarize(any(), any());
+    }
+
+    @Test
+    void testConsumptionRollupService_WhenNoRangeInformed_ShouldDefaultToLastThirtyDays() {
+        var today = LocalDate.now();
+
+        consumptionRollupService.getDailyConsumption(1L, null, null, TransactionMotivation.WASTE);
+
+        verify(dailyConsumptionRepository).findDailyByMotivation(1L, today.minusDays(29), today, TransactionMotivation.WASTE);
+    }
+
+    @Test
+    void testConsumptionRollupService_WhenNoMotivationInformed_ShouldSummarizeEveryMotivation() {
+        var from = LocalDate.of(2025, 3, 1);
+        var to = LocalDate.of(2025, 3, 31);
+
+        consumptionRollupService.getConsumptionSummary(from, to, null);
+
+        verify(dailyConsumptionRepository).summarize(from, to);
+        verify(dailyConsumptionRepository, never()).summarizeByMotivation(any(), any(), any());
+    }
+
+    private InventoryTransaction transaction(Long productId, TransactionType type, TransactionMotivation motivation,
+                                             Long quantity, String unitPrice, LocalDateTime at) {
+        return InventoryTransaction.builder()
+                .product(Product.builder().id(productId).build())
+                .type(type)
+                .motivation(motivation)
+                .quantity(quantity)
+                .unitPrice(unitPrice != null ? new BigDecimal(unitPrice) : null)
+                .transactionDateAndTime(at)
+                .build();
+    }
+}
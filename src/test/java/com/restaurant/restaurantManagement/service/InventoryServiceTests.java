@@ -2,67 +2,92 @@ package com.restaurant.restaurantManagement.service;
 
 import com.restaurant.restaurantManagement.enums.MeasurementUnit;
 import com.restaurant.restaurantManagement.enums.ProductCategory;
+import com.restaurant.restaurantManagement.enums.TransactionMotivation;
+import com.restaurant.restaurantManagement.enums.TransactionType;
 import com.restaurant.restaurantManagement.enums.UserProfile;
+import com.restaurant.restaurantManagement.events.LowStockEvent;
 import com.restaurant.restaurantManagement.exception.BusinessException;
 import com.restaurant.restaurantManagement.exception.ResourceNotFoundException;
 import com.restaurant.restaurantManagement.model.entity.Inventory;
+import com.restaurant.restaurantManagement.model.entity.InventoryTransaction;
 import com.restaurant.restaurantManagement.model.entity.Product;
 import com.restaurant.restaurantManagement.model.entity.User;
+import com.restaurant.restaurantManagement.model.mapper.InventoryMapper;
+import com.restaurant.restaurantManagement.repository.DailyConsumptionRepository;
 import com.restaurant.restaurantManagement.repository.InventoryRepository;
-import com.restaurant.restaurantManagement.repository.ProductRepository;
+import com.restaurant.restaurantManagement.repository.InventoryTransactionRepository;
+import com.restaurant.restaurantManagement.repository.StockAlertStateRepository;
 import com.restaurant.restaurantManagement.repository.UserRepository;
-import com.restaurant.restaurantManagement.service.notification.EmailService;
-import com.restaurant.restaurantManagement.service.notification.WhatsappService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import java.math.BigDecimal;
+import java.time.Duration;
 import java.time.LocalDateTime;
-import java.util.List;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
 public class InventoryServiceTests {
 
+    private static final String COOK_EMAIL = "cook@teste.com";
+
     @Mock
     private InventoryRepository inventoryRepository;
 
     @Mock
-    private ProductRepository productRepository;
+    private InventoryTransactionRepository inventoryTransactionRepository;
+
+    @Mock
+    private InventoryMapper inventoryMapper;
+
+    @Mock
+    private StockAlertStateRepository stockAlertStateRepository;
 
     @Mock
     private UserRepository userRepository;
 
     @Mock
-    private EmailService emailService;
+    private DailyConsumptionRepository dailyConsumptionRepository;
 
     @Mock
-    private WhatsappService whatsappService;
+    private ApplicationEventPublisher eventPublisher;
 
-    @InjectMocks
     private InventoryService inventoryService;
 
     private Inventory inventory;
     private Product product;
+    private User cook;
 
     @BeforeEach
     void setup() {
+        inventoryService = new InventoryService(inventoryRepository, inventoryTransactionRepository, inventoryMapper,
+                stockAlertStateRepository, userRepository, new ConsumptionRollupService(dailyConsumptionRepository), eventPublisher);
+
+        cook = User.builder()
+                .id(7L)
+                .name("Cook")
+                .email(COOK_EMAIL)
+                .profile(UserProfile.EMPLOYEE)
+                .build();
+
         product =  Product.builder()
                 .id(1L)
                 .name("Pepino")
                 .category(ProductCategory.CANNED)
                 .measurementUnit(MeasurementUnit.UNIT)
                 .price(BigDecimal.valueOf(3.99))
-                .currentStock(20L)
                 .minQuantityOnStock(15L)
                 .build();
 
@@ -72,6 +97,9 @@ public class InventoryServiceTests {
                 .lastUpdatedAt(LocalDateTime.now().minusDays(10))
                 .currentQuantity(20L)
                 .build();
+        product.setInventory(inventory);
+
+        ReflectionTestUtils.setField(inventoryService, "lowStockReminderInterval", Duration.ZERO);
     }
 
     @Test
@@ -81,52 +109,210 @@ public class InventoryServiceTests {
     }
 
     @Test
-    void testInventoryService_WhenIncreaseStock_ShouldIncreaseStockAndSaveProduct() {
-        product.setCurrentStock(10L);
+    void testInventoryService_WhenIncreaseStock_ShouldApplyPositiveDeltaInDatabase() {
+        inventory.setCurrentQuantity(10L);
         product.setMinQuantityOnStock(5L);
 
-        when(productRepository.save(any())).thenAnswer(i -> i.getArguments()[0]);
-        inventoryService.increaseStock(product, 5L);
+        when(userRepository.findByEmail(COOK_EMAIL)).thenReturn(Optional.of(cook));
+        when(inventoryRepository.applyQuantityDelta(eq(1L), eq(5L), eq(0L), any())).thenReturn(Optional.of(15L));
+        inventoryService.increaseStock(product, 5L, COOK_EMAIL);
 
-        assertEquals(15L, product.getCurrentStock());
-        verify(productRepository).save(product);
+        assertEquals(15L, inventory.getCurrentQuantity());
+        assertTrue(inventory.getLastUpdatedAt().isAfter(LocalDateTime.now().minusMinutes(1)));
+        verify(inventoryRepository).applyQuantityDelta(eq(1L), eq(5L), eq(0L), any());
+        verify(inventoryRepository, never()).save(any());
     }
 
     @Test
-    void testInventoryService_WhenDecreaseStock_ShouldDecreaseStockAndSaveProduct() {
-        product.setCurrentStock(10L);
+    void testInventoryService_WhenDecreaseStock_ShouldApplyNegativeDeltaInDatabase() {
+        inventory.setCurrentQuantity(10L);
         product.setMinQuantityOnStock(3L);
 
-        when(productRepository.save(any())).thenAnswer(i -> i.getArguments()[0]);
-        inventoryService.decreaseStock(product, 5L);
+        when(userRepository.findByEmail(COOK_EMAIL)).thenReturn(Optional.of(cook));
+        when(inventoryRepository.applyQuantityDelta(eq(1L), eq(-5L), eq(-5L), any())).thenReturn(Optional.of(5L));
+        inventoryService.decreaseStock(product, 5L, COOK_EMAIL);
 
-        assertEquals(5L, product.getCurrentStock());
-        verify(productRepository).save(product);
+        assertEquals(5L, inventory.getCurrentQuantity());
+        verify(inventoryRepository).applyQuantityDelta(eq(1L), eq(-5L), eq(-5L), any());
+        verify(inventoryRepository, never()).save(any());
     }
 
     @Test
     void testInventoryService_WhenDecreaseStockBelowZero_ShouldThrowBusinessException() {
-        product.setCurrentStock(3L);
-        assertThrows(BusinessException.class, () -> inventoryService.decreaseStock(product, 5L));
-        verify(productRepository, never()).save(any());
+        inventory.setCurrentQuantity(3L);
+        when(userRepository.findByEmail(COOK_EMAIL)).thenReturn(Optional.of(cook));
+        when(inventoryRepository.applyQuantityDelta(eq(1L), eq(-5L), eq(-5L), any())).thenReturn(Optional.empty());
+
+        assertThrows(BusinessException.class, () -> inventoryService.decreaseStock(product, 5L, COOK_EMAIL));
+        assertEquals(3L, inventory.getCurrentQuantity());
+        verify(inventoryRepository, never()).save(any());
     }
 
     @Test
-    void testInventoryService_WhenStockIsBelowMinimumQuantity_ShouldNotifyOwners() {
-        product.setCurrentStock(6L);
+    void testInventoryService_WhenStockIsBelowMinimumQuantity_ShouldPublishLowStockEvent() {
+        inventory.setCurrentQuantity(6L);
         product.setMinQuantityOnStock(5L);
 
-        User owner = new User();
-        owner.setEmail("owner@example.com");
-        owner.setPhone("+55123456789");
-        owner.setProfile(UserProfile.OWNER);
-
-        when(userRepository.findByProfile(UserProfile.OWNER)).thenReturn(List.of(owner));
-        when(productRepository.save(any())).thenAnswer(i -> i.getArguments()[0]);
+        when(inventoryRepository.replaceQuantity(eq(1L), eq(4L), any())).thenReturn(Optional.of(6L));
+        when(stockAlertStateRepository.tryFire(eq(1L), any(), isNull())).thenReturn(1);
         inventoryService.updateStock(product, 4L);
 
-        verify(emailService).sendEmail(eq("owner@example.com"), contains("Low Stock"), contains("Pepino"));
-        verify(whatsappService).sendWhatsAppMessage(eq("+55123456789"), contains("Pepino"));
+        verify(inventoryRepository).replaceQuantity(eq(1L), eq(4L), any());
+        verify(eventPublisher).publishEvent(new LowStockEvent(1L, "Pepino", 4L, 5L));
+    }
+
+    @Test
+    void testInventoryService_WhenLowStockAlertAlreadyFired_ShouldNotPublishAgain() {
+        inventory.setCurrentQuantity(4L);
+        product.setMinQuantityOnStock(5L);
+
+        when(userRepository.findByEmail(COOK_EMAIL)).thenReturn(Optional.of(cook));
+        when(inventoryRepository.applyQuantityDelta(eq(1L), eq(-1L), eq(-1L), any())).thenReturn(Optional.of(3L));
+        when(stockAlertStateRepository.tryFire(eq(1L), any(), isNull())).thenReturn(0);
+        inventoryService.decreaseStock(product, 1L, COOK_EMAIL);
+
+        verify(eventPublisher, never()).publishEvent(any());
+    }
+
+    @Test
+    void testInventoryService_WhenReminderIntervalIsSet_ShouldAllowRefiringAfterInterval() {
+        ReflectionTestUtils.setField(inventoryService, "lowStockReminderInterval", Duration.ofHours(4));
+        inventory.setCurrentQuantity(4L);
+        product.setMinQuantityOnStock(5L);
+
+        when(stockAlertStateRepository.tryFire(eq(1L), any(), notNull())).thenReturn(1);
+        inventoryService.notifyOwnersIfStockIsLow(product);
+
+        verify(eventPublisher).publishEvent(new LowStockEvent(1L, "Pepino", 4L, 5L));
+    }
+
+    @Test
+    void testInventoryService_WhenStockClimbsBackAboveMinimum_ShouldRearmAlert() {
+        inventory.setCurrentQuantity(4L);
+        product.setMinQuantityOnStock(5L);
+
+        when(userRepository.findByEmail(COOK_EMAIL)).thenReturn(Optional.of(cook));
+        when(inventoryRepository.applyQuantityDelta(eq(1L), eq(10L), eq(0L), any())).thenReturn(Optional.of(14L));
+        inventoryService.increaseStock(product, 10L, COOK_EMAIL);
+
+        verify(stockAlertStateRepository).rearm(1L);
+        verify(eventPublisher, never()).publishEvent(any());
+    }
+
+    @Test
+    void testInventoryService_WhenStockStaysAboveMinimumQuantity_ShouldNotTouchAlertState() {
+        inventory.setCurrentQuantity(10L);
+        product.setMinQuantityOnStock(3L);
+
+        when(userRepository.findByEmail(COOK_EMAIL)).thenReturn(Optional.of(cook));
+        when(inventoryRepository.applyQuantityDelta(eq(1L), eq(-5L), eq(-5L), any())).thenReturn(Optional.of(5L));
+        inventoryService.decreaseStock(product, 5L, COOK_EMAIL);
+
+        verifyNoInteractions(stockAlertStateRepository, eventPublisher);
+    }
+
+    @Test
+    void testInventoryService_WhenUpdatingStockOfProductWithoutInventory_ShouldThrowResourceNotFoundException() {
+        when(inventoryRepository.replaceQuantity(eq(1L), eq(4L), any())).thenReturn(Optional.empty());
+
+        assertThrows(ResourceNotFoundException.class, () -> inventoryService.updateStock(product, 4L));
+        assertEquals(20L, inventory.getCurrentQuantity());
+        verifyNoInteractions(stockAlertStateRepository, eventPublisher, inventoryTransactionRepository);
+    }
+
+    @Test
+    void testInventoryService_WhenIncreasingStockOnTheInventory_ShouldBookAReplenishmentByTheUser() {
+        when(userRepository.findByEmail(COOK_EMAIL)).thenReturn(Optional.of(cook));
+        when(inventoryRepository.applyQuantityDelta(eq(1L), eq(5L), eq(0L), any())).thenReturn(Optional.of(25L));
+
+        inventoryService.increaseStock(product, 5L, COOK_EMAIL);
+
+        var booked = bookedTransaction();
+        assertEquals(TransactionType.INBOUND, booked.getType());
+        assertEquals(5L, booked.getQuantity());
+        assertEquals(TransactionMotivation.REPLENISHMENT, booked.getMotivation());
+        assertEquals(product, booked.getProduct());
+        assertEquals(cook, booked.getResponsible());
+        verifyNoInteractions(dailyConsumptionRepository);
+    }
+
+    @Test
+    void testInventoryService_WhenDecreasingStockOnTheInventory_ShouldRollItUpAsDailyConsumption() {
+        when(userRepository.findByEmail(COOK_EMAIL)).thenReturn(Optional.of(cook));
+        when(inventoryRepository.applyQuantityDelta(eq(1L), eq(-4L), eq(-4L), any())).thenReturn(Optional.of(16L));
+
+        inventoryService.decreaseStock(product, 4L, COOK_EMAIL);
+
+        var booked = bookedTransaction();
+        assertEquals(TransactionType.OUTBOUND, booked.getType());
+        assertEquals(TransactionMotivation.CONSUMPTION, booked.getMotivation());
+        assertEquals(cook, booked.getResponsible());
+        verify(dailyConsumptionRepository).addConsumption(1L, booked.getTransactionDateAndTime().toLocalDate(), "CONSUMPTION",
+                4L, new BigDecimal("15.96"), 1L);
+    }
+
+    @Test
+    void testInventoryService_WhenMovingStockForAnUnknownUser_ShouldThrowResourceNotFoundException() {
+        when(userRepository.findByEmail(COOK_EMAIL)).thenReturn(Optional.empty());
+
+        assertThrows(ResourceNotFoundException.class, () -> inventoryService.decreaseStock(product, 4L, COOK_EMAIL));
+        verifyNoInteractions(inventoryRepository, inventoryTransactionRepository, dailyConsumptionRepository);
+    }
+
+    @Test
+    void testInventoryService_WhenDecreasingStockByANonPositiveQuantity_ShouldThrowBusinessException() {
+        assertThrows(BusinessException.class, () -> inventoryService.decreaseStock(product, -5L, COOK_EMAIL));
+        verifyNoInteractions(inventoryRepository, inventoryTransactionRepository);
+    }
+
+    @Test
+    void testInventoryService_WhenCorrectingTheStockCount_ShouldBookTheDifferenceOnTheLedger() {
+        when(inventoryRepository.replaceQuantity(eq(1L), eq(16L), any())).thenReturn(Optional.of(20L));
+
+        inventoryService.updateStock(product, 16L);
+
+        var booked = bookedTransaction();
+        assertEquals(TransactionType.OUTBOUND, booked.getType());
+        assertEquals(4L, booked.getQuantity());
+        assertEquals(TransactionMotivation.ADJUSTMENT, booked.getMotivation());
+        assertEquals(16L, inventory.getCurrentQuantity());
+    }
+
+    @Test
+    void testInventoryService_WhenStockCountIsUnchanged_ShouldNotBookAnything() {
+        when(inventoryRepository.replaceQuantity(eq(1L), eq(20L), any())).thenReturn(Optional.of(20L));
+
+        inventoryService.updateStock(product, 20L);
+
+        verifyNoInteractions(inventoryTransactionRepository);
+    }
+
+    @Test
+    void testInventoryService_WhenOpeningStock_ShouldApplyItAndBookAnOpeningBalance() {
+        inventory.setCurrentQuantity(0L);
+        when(inventoryRepository.applyQuantityDelta(eq(1L), eq(30L), eq(0L), any())).thenReturn(Optional.of(30L));
+
+        inventoryService.openStock(product, 30L);
+
+        var booked = bookedTransaction();
+        assertEquals(TransactionType.INBOUND, booked.getType());
+        assertEquals(30L, booked.getQuantity());
+        assertEquals(TransactionMotivation.OPENING_BALANCE, booked.getMotivation());
+        assertEquals(30L, inventory.getCurrentQuantity());
+    }
+
+    @Test
+    void testInventoryService_WhenRegisteringATransaction_ShouldLeaveTheLedgerToTheCaller() {
+        when(inventoryRepository.applyQuantityDelta(eq(1L), eq(-5L), eq(-5L), any())).thenReturn(Optional.of(15L));
+
+        inventoryService.processTransaction(product, TransactionType.OUTBOUND, 5L);
+
+        verifyNoInteractions(inventoryTransactionRepository);
+    }
 
+    private InventoryTransaction bookedTransaction() {
+        var captor = ArgumentCaptor.forClass(InventoryTransaction.class);
+        verify(inventoryTransactionRepository).save(captor.capture());
+        return captor.getValue();
     }
 }
@@ -0,0 +1,120 @@
+package com.restaurant.restaurantManagement.service;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class InventoryTransactionPartitionServiceTests {
+
+    private static final DateTimeFormatter PARTITION_SUFFIX = DateTimeFormatter.ofPattern("yyyy_MM");
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @TempDir
+    private Path archiveDirectory;
+
+    @Test
+    void testPartitionService_WhenCreatingUpcomingPartitions_ShouldEnsureCurrentAndPremadeMonths() {
+        var service = new InventoryTransactionPartitionService(jdbcTemplate, 3, 24, archiveDirectory);
+        var currentMonth = YearMonth.now();
+        when(jdbcTemplate.queryForObject(eq("SELECT ensure_inventory_transaction_partition(?)"), eq(Boolean.class), any()))
+                .thenReturn(false);
+
+        service.createUpcomingPartitions();
+
+        for (int offset = 0; offset <= 3; offset++) {
+            verify(jdbcTemplate).queryForObject("SELECT ensure_inventory_transaction_partition(?)", Boolean.class,
+                    currentMonth.plusMonths(offset).atDay(1));
+        }
+    }
+
+    @Test
+    void testPartitionService_WhenApplicationStarts_ShouldOnlyEnsureCurrentAndNextMonth() {
+        var service = new InventoryTransactionPartitionService(jdbcTemplate, 3, 24, archiveDirectory);
+        var currentMonth = YearMonth.now();
+        when(jdbcTemplate.queryForObject(eq("SELECT ensure_inventory_transaction_partition(?)"), eq(Boolean.class), any()))
+                .thenReturn(true);
+
+        service.ensureCurrentPartitions();
+
+        verify(jdbcTemplate).queryForObject("SELECT ensure_inventory_transaction_partition(?)", Boolean.class, currentMonth.atDay(1));
+        verify(jdbcTemplate).queryForObject("SELECT ensure_inventory_transaction_partition(?)", Boolean.class,
+                currentMonth.plusMonths(1).atDay(1));
+        verifyNoMoreInteractions(jdbcTemplate);
+    }
+
+    @Test
+    void testPartitionService_WhenBackDatedTransactionIsInDefaultPartition_ShouldCreateItsMonth() {
+        var service = new InventoryTransactionPartitionService(jdbcTemplate, 3, 24, archiveDirectory);
+        var backDatedMonth = YearMonth.now().minusMonths(6);
+        var archivedMonth = YearMonth.now().minusMonths(30);
+        when(jdbcTemplate.queryForList(contains("inventory_transaction_default"), eq(LocalDate.class)))
+                .thenReturn(List.of(archivedMonth.atDay(1), backDatedMonth.atDay(1)));
+        when(jdbcTemplate.queryForObject(eq("SELECT ensure_inventory_transaction_partition(?)"), eq(Boolean.class), any()))
+                .thenReturn(true);
+
+        service.rehomeDefaultPartitionRows();
+
+        verify(jdbcTemplate).queryForObject("SELECT ensure_inventory_transaction_partition(?)", Boolean.class, backDatedMonth.atDay(1));
+        verify(jdbcTemplate, never()).queryForObject("SELECT ensure_inventory_transaction_partition(?)", Boolean.class,
+                archivedMonth.atDay(1));
+    }
+
+    @Test
+    void testPartitionService_WhenExpiredPartitionIsCoveredBySnapshots_ShouldDetachOnlyExpiredMonths() {
+        var service = new InventoryTransactionPartitionService(jdbcTemplate, 3, 24, archiveDirectory);
+        var expired = partitionOf(YearMonth.now().minusMonths(25));
+        var retained = partitionOf(YearMonth.now().minusMonths(24));
+        when(jdbcTemplate.queryForList(contains("pg_inherits"), eq(String.class))).thenReturn(List.of(expired, retained));
+        when(jdbcTemplate.queryForList(contains("relispartition"), eq(String.class))).thenReturn(List.of());
+        when(jdbcTemplate.queryForObject(contains("FROM " + expired), eq(Long.class))).thenReturn(0L);
+
+        service.archiveExpiredPartitions();
+
+        verify(jdbcTemplate).execute("ALTER TABLE inventory_transaction DETACH PARTITION " + expired);
+        verify(jdbcTemplate, never()).execute("ALTER TABLE inventory_transaction DETACH PARTITION " + retained);
+        verify(jdbcTemplate, never()).queryForObject(contains("FROM " + retained), eq(Long.class));
+    }
+
+    @Test
+    void testPartitionService_WhenExpiredPartitionIsNotCoveredBySnapshots_ShouldKeepIt() {
+        var service = new InventoryTransactionPartitionService(jdbcTemplate, 3, 24, archiveDirectory);
+        var expired = partitionOf(YearMonth.now().minusMonths(30));
+        when(jdbcTemplate.queryForList(contains("pg_inherits"), eq(String.class))).thenReturn(List.of(expired));
+        when(jdbcTemplate.queryForList(contains("relispartition"), eq(String.class))).thenReturn(List.of());
+        when(jdbcTemplate.queryForObject(contains("FROM " + expired), eq(Long.class))).thenReturn(3L);
+
+        service.archiveExpiredPartitions();
+
+        verify(jdbcTemplate, never()).execute(anyString());
+    }
+
+    @Test
+    void testPartitionService_WhenRetentionIsDisabled_ShouldNotTouchPartitions() {
+        var service = new InventoryTransactionPartitionService(jdbcTemplate, 3, 0, archiveDirectory);
+
+        service.archiveExpiredPartitions();
+
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    private String partitionOf(YearMonth month) {
+        return "inventory_transaction_" + month.format(PARTITION_SUFFIX);
+    }
+}
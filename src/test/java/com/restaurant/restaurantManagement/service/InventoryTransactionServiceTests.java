@@ -0,0 +1,215 @@
+package com.restaurant.restaurantManagement.service;
+
+import com.restaurant.restaurantManagement.enums.BatchTransactionMode;
+import com.restaurant.restaurantManagement.enums.MeasurementUnit;
+import com.restaurant.restaurantManagement.enums.ProductCategory;
+import com.restaurant.restaurantManagement.enums.TransactionMotivation;
+import com.restaurant.restaurantManagement.enums.TransactionType;
+import com.restaurant.restaurantManagement.enums.UserProfile;
+import com.restaurant.restaurantManagement.exception.BusinessException;
+import com.restaurant.restaurantManagement.model.dto.inventoryTransaction.GetInventoryTransactionDTO;
+import com.restaurant.restaurantManagement.model.dto.inventoryTransaction.TransactionCursor;
+import com.restaurant.restaurantManagement.model.dto.inventoryTransaction.TransactionHistoryRowDTO;
+import com.restaurant.restaurantManagement.model.entity.InventoryTransaction;
+import com.restaurant.restaurantManagement.model.entity.Inventory;
+import com.restaurant.restaurantManagement.model.entity.Product;
+import com.restaurant.restaurantManagement.model.entity.User;
+import com.restaurant.restaurantManagement.model.mapper.InventoryTransactionMapper;
+import com.restaurant.restaurantManagement.repository.InventoryTransactionRepository;
+import com.restaurant.restaurantManagement.repository.ProductRepository;
+import com.restaurant.restaurantManagement.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class InventoryTransactionServiceTests {
+
+    @Mock
+    private InventoryTransactionRepository inventoryTransactionRepository;
+
+    @Mock
+    private InventoryTransactionMapper inventoryTransactionMapper;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private ProductRepository productRepository;
+
+    @Mock
+    private InventoryService inventoryService;
+
+    @Mock
+    private ConsumptionRollupService consumptionRollupService;
+
+    @InjectMocks
+    private InventoryTransactionService inventoryTransactionService;
+
+    @Captor
+    private ArgumentCaptor<List<InventoryTransaction>> transactionsCaptor;
+
+    private Product tomato;
+    private User cook;
+
+    @BeforeEach
+    void setup() {
+        tomato = Product.builder()
+                .id(1L)
+                .name("Tomato")
+                .category(ProductCategory.PERISHABLES)
+                .measurementUnit(MeasurementUnit.KILOGRAM)
+                .price(BigDecimal.valueOf(9.99))
+                .minQuantityOnStock(2L)
+                .build();
+        tomato.setInventory(Inventory.builder().product(tomato).currentQuantity(10L).build());
+
+        cook = User.builder()
+                .id(1L)
+                .name("João da Silva")
+                .profile(UserProfile.EMPLOYEE)
+                .build();
+    }
+
+    @Test
+    void testInventoryTransactionService_WhenRegisteringBatch_ShouldLoadProductsAndUsersOnceAndApplyNetDelta() {
+        when(productRepository.findAllById(Set.of(1L))).thenReturn(List.of(tomato));
+        when(userRepository.findAllById(Set.of(1L))).thenReturn(List.of(cook));
+        when(inventoryService.tryApplyStockDelta(tomato, 7L, 0L)).thenReturn(Optional.of(17L));
+
+        var result = inventoryTransactionService.registerTransactions(
+                List.of(line(1L, TransactionType.INBOUND, 10L), line(1L, TransactionType.OUTBOUND, 3L)),
+                BatchTransactionMode.ALL_OR_NOTHING);
+
+        assertEquals(2, result.registered());
+        verify(inventoryService, times(1)).tryApplyStockDelta(tomato, 7L, 0L);
+        verify(inventoryTransactionRepository).saveAll(transactionsCaptor.capture());
+        assertEquals(2, transactionsCaptor.getValue().size());
+        verify(consumptionRollupService).record(transactionsCaptor.getValue());
+        verify(productRepository, never()).findById(any());
+    }
+
+    @Test
+    void testInventoryTransactionService_WhenAllOrNothingBatchHasUnknownProduct_ShouldRejectWholeBatch() {
+        when(productRepository.findAllById(Set.of(1L, 9L))).thenReturn(List.of(tomato));
+        when(userRepository.findAllById(Set.of(1L))).thenReturn(List.of(cook));
+
+        var exc = assertThrows(BusinessException.class, () -> inventoryTransactionService.registerTransactions(
+                List.of(line(1L, TransactionType.INBOUND, 10L), line(9L, TransactionType.INBOUND, 1L)),
+                BatchTransactionMode.ALL_OR_NOTHING));
+
+        assertTrue(exc.getMessage().contains("Product not found: 9"));
+        verify(inventoryService, never()).tryApplyStockDelta(any(), any(), any());
+        verify(inventoryTransactionRepository, never()).saveAll(any());
+        verifyNoInteractions(consumptionRollupService);
+    }
+
+    @Test
+    void testInventoryTransactionService_WhenAllOrNothingBatchOverdrawsBeforeALaterInbound_ShouldRejectWholeBatch() {
+        tomato.getInventory().setCurrentQuantity(0L);
+        when(productRepository.findAllById(Set.of(1L))).thenReturn(List.of(tomato));
+        when(userRepository.findAllById(Set.of(1L))).thenReturn(List.of(cook));
+        when(inventoryService.tryApplyStockDelta(tomato, 0L, -10L)).thenReturn(Optional.empty());
+
+        assertThrows(BusinessException.class, () -> inventoryTransactionService.registerTransactions(
+                List.of(line(1L, TransactionType.OUTBOUND, 10L), line(1L, TransactionType.INBOUND, 10L)),
+                BatchTransactionMode.ALL_OR_NOTHING));
+
+        verify(inventoryTransactionRepository, never()).saveAll(any());
+        verifyNoInteractions(consumptionRollupService);
+    }
+
+    @Test
+    void testInventoryTransactionService_WhenPerLineBatchHasInsufficientStock_ShouldRegisterOnlyValidLines() {
+        when(productRepository.findAllById(Set.of(1L))).thenReturn(List.of(tomato));
+        when(userRepository.findAllById(Set.of(1L))).thenReturn(List.of(cook));
+        when(inventoryService.tryApplyStockDelta(tomato, -4L)).thenReturn(Optional.of(6L));
+        when(inventoryService.tryApplyStockDelta(tomato, -50L)).thenReturn(Optional.empty());
+
+        var result = inventoryTransactionService.registerTransactions(
+                List.of(line(1L, TransactionType.OUTBOUND, 4L), line(1L, TransactionType.OUTBOUND, 50L)),
+                BatchTransactionMode.PER_LINE);
+
+        assertEquals(1, result.registered());
+        assertEquals(1, result.rejected());
+        assertTrue(result.lines().get(0).registered());
+        assertEquals("The stock can't be negative!", result.lines().get(1).error());
+        verify(inventoryTransactionRepository).saveAll(transactionsCaptor.capture());
+        assertEquals(1, transactionsCaptor.getValue().size());
+    }
+
+    private GetInventoryTransactionDTO line(Long productId, TransactionType type, Long quantity) {
+        return GetInventoryTransactionDTO.builder()
+                .product(GetInventoryTransactionDTO.ProductDTO.builder()
+                        .id(productId)
+                        .measurementUnit(MeasurementUnit.KILOGRAM)
+                        .build())
+                .responsible(GetInventoryTransactionDTO.UserDTO.builder().id(1L).build())
+                .transactionType(type)
+                .quantity(quantity)
+                .unitPrice(BigDecimal.valueOf(9.99))
+                .motivation(type == TransactionType.INBOUND ? TransactionMotivation.REPLENISHMENT : TransactionMotivation.CONSUMPTION)
+                .details("Supplier delivery")
+                .build();
+    }
+
+    @Test
+    void testInventoryTransactionService_WhenPageIsFull_ShouldReturnCursorOfLastRow() {
+        var newest = TransactionHistoryRowDTO.builder().id(3L).transactionDateAndTime(LocalDateTime.of(2025, 3, 3, 10, 0)).build();
+        var middle = TransactionHistoryRowDTO.builder().id(2L).transactionDateAndTime(LocalDateTime.of(2025, 3, 2, 10, 0)).build();
+        var oldest = TransactionHistoryRowDTO.builder().id(1L).transactionDateAndTime(LocalDateTime.of(2025, 3, 1, 10, 0)).build();
+        when(inventoryTransactionRepository.findPageByProductId(eq(1L), any(), any(), any(), eq(Limit.of(3))))
+                .thenReturn(List.of(newest, middle, oldest));
+
+        var page = inventoryTransactionService.getTransactionsByProductId(1L, null, null, null, 2);
+
+        assertEquals(2, page.size());
+        assertTrue(page.hasNext());
+        assertEquals(new TransactionCursor(middle.transactionDateAndTime(), 2L), TransactionCursor.decode(page.nextCursor()));
+    }
+
+    @Test
+    void testInventoryTransactionService_WhenCursorIsInformed_ShouldSeekPastIt() {
+        var cursor = new TransactionCursor(LocalDateTime.of(2025, 3, 2, 10, 0), 2L);
+        var from = LocalDateTime.of(2025, 1, 1, 0, 0);
+        when(inventoryTransactionRepository.findPageByResponsibleId(1L, from, cursor.transactionDateAndTime(), 2L, Limit.of(51)))
+                .thenReturn(List.of());
+
+        var page = inventoryTransactionService.getTransactionsByResponsibleId(1L, from, null, cursor.encode(), 50);
+
+        assertTrue(page.content().isEmpty());
+        assertFalse(page.hasNext());
+        assertNull(page.nextCursor());
+    }
+
+    @Test
+    void testInventoryTransactionService_WhenCursorIsMalformed_ShouldThrowBusinessException() {
+        assertThrows(BusinessException.class,
+                () -> inventoryTransactionService.getTransactionsByProductId(1L, null, null, "not-a-cursor", 50));
+        verifyNoInteractions(inventoryTransactionRepository);
+    }
+
+    @Test
+    void testInventoryTransactionService_WhenDateRangeIsInverted_ShouldThrowBusinessException() {
+        var from = LocalDateTime.of(2025, 2, 1, 0, 0);
+        assertThrows(BusinessException.class,
+                () -> inventoryTransactionService.getTransactionsByProductId(1L, from, from.minusDays(1), null, 50));
+    }
+}
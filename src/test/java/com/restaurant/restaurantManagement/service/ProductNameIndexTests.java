@@ -0,0 +1,65 @@
+package com.restaurant.restaurantManagement.service;
+
+import com.restaurant.restaurantManagement.events.ProductChangedEvent;
+import com.restaurant.restaurantManagement.model.dto.product.ProductNameDTO;
+import com.restaurant.restaurantManagement.repository.ProductRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class ProductNameIndexTests {
+
+    @Mock
+    private ProductRepository productRepository;
+
+    @InjectMocks
+    private ProductNameIndex productNameIndex;
+
+    @BeforeEach
+    void setup() {
+        when(productRepository.findAllNames()).thenReturn(List.of(
+                new ProductNameDTO(1L, "Tomato"),
+                new ProductNameDTO(2L, "Tomato Sauce"),
+                new ProductNameDTO(3L, "Açúcar"),
+                new ProductNameDTO(4L, "Potato")));
+    }
+
+    @Test
+    void testProductNameIndex_WhenSearchingByPrefix_ShouldIgnoreCaseAndAccentsAndLoadOnce() {
+        assertEquals(List.of("Tomato", "Tomato Sauce"), names(productNameIndex.findByPrefix("TOM", 10)));
+        assertEquals(List.of("Açúcar"), names(productNameIndex.findByPrefix("acu", 10)));
+        assertEquals(List.of("Tomato"), names(productNameIndex.findByPrefix("tom", 1)));
+        assertTrue(productNameIndex.findByPrefix("  ", 10).isEmpty());
+        verify(productRepository, times(1)).findAllNames();
+    }
+
+    @Test
+    void testProductNameIndex_WhenProductIsRenamedOrDeleted_ShouldUpdateIncrementally() {
+        productNameIndex.rebuild();
+
+        productNameIndex.onProductChanged(new ProductChangedEvent(4L, "Sweet Potato"));
+        productNameIndex.onProductChanged(ProductChangedEvent.deleted(2L));
+        productNameIndex.onProductChanged(new ProductChangedEvent(5L, "Tomatillo"));
+
+        assertEquals(List.of("Tomatillo", "Tomato"), names(productNameIndex.findByPrefix("tom", 10)));
+        assertEquals(List.of("Sweet Potato"), names(productNameIndex.findByPrefix("sweet", 10)));
+        assertTrue(productNameIndex.findByPrefix("pot", 10).isEmpty());
+        assertEquals(Optional.empty(), productNameIndex.findIdByName("tomato sauce"));
+        assertEquals(Optional.of(4L), productNameIndex.findIdByName("SWEET POTATO"));
+        verify(productRepository, times(1)).findAllNames();
+    }
+
+    private List<String> names(List<ProductNameDTO> products) {
+        return products.stream().map(ProductNameDTO::name).toList();
+    }
+}
@@ -6,6 +6,11 @@ import com.restaurant.restaurantManagement.enums.UserProfile;
 import com.restaurant.restaurantManagement.exception.BusinessException;
 import com.restaurant.restaurantManagement.exception.OperationNotAllowedException;
 import com.restaurant.restaurantManagement.exception.ResourceNotFoundException;
+import com.restaurant.restaurantManagement.model.dto.product.CreateProductDTO;
+import com.restaurant.restaurantManagement.model.dto.product.GetProductDTO;
+import com.restaurant.restaurantManagement.model.dto.product.ProductCursor;
+import com.restaurant.restaurantManagement.model.dto.product.ProductRowDTO;
+import com.restaurant.restaurantManagement.model.entity.Inventory;
 import com.restaurant.restaurantManagement.model.entity.Product;
 import com.restaurant.restaurantManagement.model.entity.User;
 import com.restaurant.restaurantManagement.model.mapper.ProductMapper;
@@ -19,14 +24,26 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 
 import java.math.BigDecimal;
+import java.util.List;
 import java.util.Optional;
 
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -47,6 +64,15 @@ public class ProductServiceTests {
     @Mock
     private WhatsappService whatsappService;
 
+    @Mock
+    private ProductNameIndex productNameIndex;
+
+    @Mock
+    private InventoryService inventoryService;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private ProductService productService;
 
@@ -60,9 +86,9 @@ public class ProductServiceTests {
                 .category(ProductCategory.BEVERAGES)
                 .measurementUnit(MeasurementUnit.LITER)
                 .price(BigDecimal.valueOf(10))
-                .currentStock(5L)
                 .minQuantityOnStock(10L)
                 .build();
+        product.setInventory(Inventory.builder().product(product).currentQuantity(5L).build());
     }
 
     @Test
@@ -76,6 +102,88 @@ public class ProductServiceTests {
         when(productRepository.findByNameIgnoreCase("Coca-Cola")).thenReturn(Optional.of(product));
         var exc = assertThrows(BusinessException.class, () -> productService.validateUniqueProductName("Coca-Cola"));
         assertTrue(exc.getMessage().contains("already exists"));
+        verifyNoInteractions(productNameIndex);
+    }
+
+    @Test
+    void testProductService_WhenNameIndexStillHoldsAFreedName_ShouldAcceptIt() {
+        when(productRepository.findByNameIgnoreCase("Pepsi")).thenReturn(Optional.empty());
+
+        assertDoesNotThrow(() -> productService.validateUniqueProductName("Pepsi"));
+        verifyNoInteractions(productNameIndex);
+    }
+
+    @Test
+    void testProductService_WhenNameIndexPointsToARenamedProduct_ShouldResolveTheNameFromDatabase() {
+        var newPepsi = Product.builder().id(2L).name("Pepsi").build();
+        product.setName("Coca-Cola Zero");
+        when(productNameIndex.findIdByName("Pepsi")).thenReturn(Optional.of(1L));
+        when(productRepository.findById(1L)).thenReturn(Optional.of(product));
+        when(productRepository.findByNameIgnoreCase("Pepsi")).thenReturn(Optional.of(newPepsi));
+
+        assertEquals(newPepsi, productService.getProductByName("Pepsi"));
+    }
+
+    @Test
+    void testProductService_WhenNameIndexHitMatchesTheProduct_ShouldNotQueryByName() {
+        when(productNameIndex.findIdByName("coca-cola")).thenReturn(Optional.of(1L));
+        when(productRepository.findById(1L)).thenReturn(Optional.of(product));
+
+        assertEquals(product, productService.getProductByName("coca-cola"));
+        verify(productRepository, never()).findByNameIgnoreCase(any());
+    }
+
+    @Test
+    void testProductService_WhenGettingProductByUnknownName_ShouldThrowAfterCheckingDatabase() {
+        when(productNameIndex.findIdByName("Radish")).thenReturn(Optional.empty());
+        when(productRepository.findByNameIgnoreCase("Radish")).thenReturn(Optional.empty());
+        assertThrows(ResourceNotFoundException.class, () -> productService.getProductByName("Radish"));
+    }
+
+    @Test
+    void testProductService_WhenNameIndexMissesExistingProduct_ShouldFallBackToDatabase() {
+        when(productNameIndex.findIdByName("coca-cola")).thenReturn(Optional.empty());
+        when(productRepository.findByNameIgnoreCase("coca-cola")).thenReturn(Optional.of(product));
+
+        assertEquals(product, productService.getProductByName("coca-cola"));
+    }
+
+    @Test
+    void testProductService_WhenUniqueNameIndexRejectsConcurrentCreate_ShouldThrowBusinessException() {
+        var productDTO = CreateProductDTO.builder()
+                .name("Coca-Cola")
+                .category(ProductCategory.BEVERAGES)
+                .measurementUnit(MeasurementUnit.LITER)
+                .price(BigDecimal.valueOf(10))
+                .minQuantityStock(10L)
+                .inventory(CreateProductDTO.InventoryDTO.builder().currentStock(5L).build())
+                .build();
+        when(productRepository.findByNameIgnoreCase("Coca-Cola")).thenReturn(Optional.empty());
+        when(productMapper.toProduct(productDTO)).thenReturn(product);
+        when(productRepository.saveAndFlush(product)).thenThrow(new DataIntegrityViolationException("uk_product_name_lower"));
+
+        var exc = assertThrows(BusinessException.class, () -> productService.createProduct(productDTO));
+        assertTrue(exc.getMessage().contains("already exists"));
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    void testProductService_WhenCreatingAProductWithInitialStock_ShouldOpenItThroughTheInventory() {
+        var productDTO = CreateProductDTO.builder()
+                .name("Coca-Cola")
+                .category(ProductCategory.BEVERAGES)
+                .measurementUnit(MeasurementUnit.LITER)
+                .price(BigDecimal.valueOf(10))
+                .minQuantityStock(10L)
+                .inventory(CreateProductDTO.InventoryDTO.builder().currentStock(12L).build())
+                .build();
+        when(productRepository.findByNameIgnoreCase("Coca-Cola")).thenReturn(Optional.empty());
+        when(productMapper.toProduct(productDTO)).thenReturn(product);
+        when(productRepository.saveAndFlush(product)).thenReturn(product);
+
+        productService.createProduct(productDTO);
+
+        verify(inventoryService).openStock(product, 12L);
     }
 
     @Test
@@ -102,4 +210,53 @@ public class ProductServiceTests {
         verify(productRepository).delete(product);
     }
 
+    @Test
+    void testProductService_WhenListingProductsSortedByUnknownField_ShouldThrowBusinessException() {
+        assertThrows(BusinessException.class,
+                () -> productService.getAllProducts(PageRequest.of(0, 10, Sort.by("password"))));
+        verifyNoInteractions(productRepository);
+    }
+
+    @Test
+    void testProductService_WhenListingProducts_ShouldAddIdAsTieBreaker() {
+        when(productRepository.findAllRows(any(Pageable.class))).thenReturn(new PageImpl<>(List.of()));
+
+        productService.getAllProducts(PageRequest.of(1, 10, Sort.by("price")));
+
+        verify(productRepository).findAllRows(PageRequest.of(1, 10, Sort.by("price", "id")));
+    }
+
+    @Test
+    void testProductService_WhenListingProductsAfterCursor_ShouldReturnCursorOfLastRow() {
+        var cursor = new ProductCursor("Corn", 2L);
+        var rows = List.of(ProductRowDTO.builder().id(7L).name("Flour").build(), ProductRowDTO.builder().id(3L).name("Milk").build());
+        when(productRepository.findRowsAfter("Corn", 2L, Limit.of(2))).thenReturn(rows);
+        when(productMapper.toGetProductDTO(any(ProductRowDTO.class))).thenReturn(GetProductDTO.builder().build());
+
+        var page = productService.getProductsAfter(cursor.encode(), 1);
+
+        assertEquals(1, page.size());
+        assertTrue(page.hasNext());
+        assertEquals(new ProductCursor("Flour", 7L), ProductCursor.decode(page.nextCursor()));
+    }
+
+    @Test
+    void testProductService_WhenRankedSearchHasNoName_ShouldThrowBusinessException() {
+        assertThrows(BusinessException.class, () -> productService.searchProductsRanked(" ", null, null, 20));
+        verifyNoInteractions(productRepository);
+    }
+
+    @Test
+    void testProductService_WhenRankedSearching_ShouldEscapeWildcardsAndKeepRankOrder() {
+        var flour = ProductRowDTO.builder().id(4L).name("Flour 50%").build();
+        var wholeFlour = ProductRowDTO.builder().id(9L).name("Whole flour 50%").build();
+        when(productRepository.searchRankedIdsByName("flour 50%", "flour 50\\%", "BAKERY", null, 10)).thenReturn(List.of(9L, 4L));
+        when(productRepository.findRowsByIds(List.of(9L, 4L))).thenReturn(List.of(flour, wholeFlour));
+        when(productMapper.toGetProductDTO(any(ProductRowDTO.class)))
+                .thenAnswer(invocation -> GetProductDTO.builder().name(invocation.getArgument(0, ProductRowDTO.class).name()).build());
+
+        var products = productService.searchProductsRanked(" Flour 50% ", ProductCategory.BAKERY, null, 10);
+
+        assertEquals(List.of("Whole flour 50%", "Flour 50%"), products.stream().map(GetProductDTO::name).toList());
+    }
 }
@@ -0,0 +1,77 @@
+package com.restaurant.restaurantManagement.service;
+
+import com.restaurant.restaurantManagement.enums.MeasurementUnit;
+import com.restaurant.restaurantManagement.enums.ProductCategory;
+import com.restaurant.restaurantManagement.enums.TransactionMotivation;
+import com.restaurant.restaurantManagement.model.entity.Inventory;
+import com.restaurant.restaurantManagement.model.entity.Product;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@DataJpaTest(properties = {
+        "spring.flyway.enabled=false",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect"
+})
+@Import(StockSnapshotService.class)
+public class StockLedgerTests {
+
+    private static final LocalDateTime CREATED_AT = LocalDateTime.of(2025, 3, 10, 9, 0);
+
+    @Autowired
+    private StockSnapshotService stockSnapshotService;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private Product leek;
+
+    @BeforeEach
+    void setup() {
+        leek = Product.builder()
+                .name("Leek")
+                .category(ProductCategory.PERISHABLES)
+                .measurementUnit(MeasurementUnit.KILOGRAM)
+                .price(BigDecimal.valueOf(2.5))
+                .minQuantityOnStock(1L)
+                .build();
+        leek.setInventory(Inventory.builder().product(leek).currentQuantity(12L).lastUpdatedAt(CREATED_AT).build());
+        entityManager.persist(leek);
+        entityManager.persist(leek.getInventory());
+    }
+
+    @Test
+    void testStockLedger_WhenProductIsCreatedWithInitialStock_ShouldShowNoDrift() {
+        book(12L, TransactionMotivation.OPENING_BALANCE, CREATED_AT);
+
+        assertEquals(leek.getInventory().getCurrentQuantity(), ledgerStock(CREATED_AT.plusMinutes(1)));
+    }
+
+    @Test
+    void testStockLedger_WhenStockIsCorrectedAfterOpening_ShouldFollowTheInventory() {
+        book(12L, TransactionMotivation.OPENING_BALANCE, CREATED_AT);
+        book(-4L, TransactionMotivation.ADJUSTMENT, CREATED_AT.plusHours(2));
+
+        assertEquals(12L, ledgerStock(CREATED_AT.plusHours(1)));
+        assertEquals(8L, ledgerStock(CREATED_AT.plusHours(3)));
+    }
+
+    // rows are built exactly as InventoryService books them next to each inventory write
+    private void book(Long delta, TransactionMotivation motivation, LocalDateTime at) {
+        entityManager.persist(InventoryService.ledgerRow(leek, delta, motivation, motivation.name(), at));
+        entityManager.flush();
+    }
+
+    private long ledgerStock(LocalDateTime at) {
+        return stockSnapshotService.getLedgerStock(leek, at).quantity();
+    }
+}
@@ -0,0 +1,85 @@
+package com.restaurant.restaurantManagement.service;
+
+import com.restaurant.restaurantManagement.exception.BusinessException;
+import com.restaurant.restaurantManagement.model.dto.inventory.StockDriftDTO;
+import com.restaurant.restaurantManagement.repository.InventoryRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class StockReconciliationServiceTests {
+
+    @Mock
+    private InventoryRepository inventoryRepository;
+
+    @InjectMocks
+    private StockReconciliationService stockReconciliationService;
+
+    @Test
+    void testStockReconciliationService_WhenFindingDrift_ShouldNotRebuildAnything() {
+        when(inventoryRepository.findStockDrift()).thenReturn(List.of(drift(1L, 28L, 10L)));
+
+        var drift = stockReconciliationService.findStockDrift();
+
+        assertEquals(1, drift.size());
+        assertEquals(28L, drift.getFirst().recordedQuantity());
+        assertEquals(10L, drift.getFirst().ledgerQuantity());
+        verify(inventoryRepository, never()).lockForReconciliation();
+        verify(inventoryRepository, never()).rebuildQuantitiesFromLedger(any());
+    }
+
+    @Test
+    void testStockReconciliationService_WhenRebuilding_ShouldLockInventoryBeforeRebuildingFromLedger() {
+        when(inventoryRepository.findStockDrift()).thenReturn(List.of(drift(1L, 28L, 10L), drift(2L, 5L, 0L)));
+        when(inventoryRepository.rebuildQuantitiesFromLedger(any())).thenReturn(List.of(drift(1L, 28L, 10L), drift(2L, 5L, 0L)));
+
+        var rebuilt = stockReconciliationService.rebuildFromLedger();
+
+        assertEquals(List.of(1L, 2L), rebuilt.stream().map(StockDriftDTO::productId).toList());
+        assertEquals(0L, rebuilt.get(1).ledgerQuantity());
+        InOrder inOrder = inOrder(inventoryRepository);
+        inOrder.verify(inventoryRepository).lockForReconciliation();
+        inOrder.verify(inventoryRepository).rebuildQuantitiesFromLedger(any());
+    }
+
+    @Test
+    void testStockReconciliationService_WhenLedgerSumsToNegativeStock_ShouldRefuseToRebuild() {
+        when(inventoryRepository.findStockDrift()).thenReturn(List.of(drift(1L, 28L, 10L), drift(2L, 5L, -3L)));
+
+        var exc = assertThrows(BusinessException.class, () -> stockReconciliationService.rebuildFromLedger());
+
+        assertTrue(exc.getMessage().contains("[2]"));
+        verify(inventoryRepository, never()).rebuildQuantitiesFromLedger(any());
+    }
+
+    private InventoryRepository.StockDrift drift(Long productId, Long recorded, Long ledger) {
+        return new InventoryRepository.StockDrift() {
+            @Override
+            public Long getProductId() {
+                return productId;
+            }
+
+            @Override
+            public Long getRecordedQuantity() {
+                return recorded;
+            }
+
+            @Override
+            public Long getLedgerQuantity() {
+                return ledger;
+            }
+        };
+    }
+}
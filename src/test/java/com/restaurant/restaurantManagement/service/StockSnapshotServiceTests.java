@@ -0,0 +1,103 @@
+package com.restaurant.restaurantManagement.service;
+
+import com.restaurant.restaurantManagement.exception.BusinessException;
+import com.restaurant.restaurantManagement.model.dto.inventoryTransaction.LedgerReplayDTO;
+import com.restaurant.restaurantManagement.model.entity.Product;
+import com.restaurant.restaurantManagement.model.entity.StockSnapshot;
+import com.restaurant.restaurantManagement.repository.InventoryTransactionRepository;
+import com.restaurant.restaurantManagement.repository.StockSnapshotRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class StockSnapshotServiceTests {
+
+    @Mock
+    private StockSnapshotRepository stockSnapshotRepository;
+
+    @Mock
+    private InventoryTransactionRepository inventoryTransactionRepository;
+
+    @InjectMocks
+    private StockSnapshotService stockSnapshotService;
+
+    private Product product;
+
+    @BeforeEach
+    void setup() {
+        product = Product.builder().id(1L).name("Tomato").build();
+        ReflectionTestUtils.setField(stockSnapshotService, "settleWindow", Duration.ofMinutes(5));
+        ReflectionTestUtils.setField(stockSnapshotService, "retentionMonths", 0);
+    }
+
+    @Test
+    void testStockSnapshotService_WhenSnapshotExists_ShouldReplayOnlyNewerTransactions() {
+        var at = LocalDateTime.of(2025, 3, 10, 12, 0);
+        var snapshot = StockSnapshot.builder()
+                .productId(1L)
+                .quantity(120L)
+                .lastTransactionAt(LocalDateTime.of(2025, 3, 9, 3, 25))
+                .lastTransactionId(900L)
+                .build();
+        when(stockSnapshotRepository.findFirstByProductIdAndLastTransactionAtLessThanEqualOrderByLastTransactionAtDescLastTransactionIdDesc(1L, at))
+                .thenReturn(Optional.of(snapshot));
+        when(inventoryTransactionRepository.replayAfter(1L, snapshot.getLastTransactionAt(), 900L, at))
+                .thenReturn(new LedgerReplayDTO(-20L, 4L));
+
+        var stock = stockSnapshotService.getLedgerStock(product, at);
+
+        assertEquals(100L, stock.quantity());
+        assertEquals(4L, stock.replayedTransactions());
+        assertEquals(snapshot.getLastTransactionAt(), stock.snapshotThrough());
+    }
+
+    @Test
+    void testStockSnapshotService_WhenDateIsOlderThanRetainedLedger_ShouldThrowBusinessException() {
+        ReflectionTestUtils.setField(stockSnapshotService, "retentionMonths", 24);
+        var archivedDate = YearMonth.now().minusMonths(25).atDay(15).atStartOfDay();
+
+        assertThrows(BusinessException.class, () -> stockSnapshotService.getLedgerStock(product, archivedDate));
+
+        verifyNoInteractions(stockSnapshotRepository, inventoryTransactionRepository);
+    }
+
+    @Test
+    void testStockSnapshotService_WhenNoSnapshotPrecedesDate_ShouldReplayWholeLedger() {
+        var at = LocalDateTime.of(2025, 3, 10, 12, 0);
+        when(stockSnapshotRepository.findFirstByProductIdAndLastTransactionAtLessThanEqualOrderByLastTransactionAtDescLastTransactionIdDesc(1L, at))
+                .thenReturn(Optional.empty());
+        when(inventoryTransactionRepository.replayAfter(eq(1L), any(), eq(Long.MIN_VALUE), eq(at)))
+                .thenReturn(new LedgerReplayDTO(35L, 7L));
+
+        var stock = stockSnapshotService.getLedgerStock(product, at);
+
+        assertEquals(35L, stock.quantity());
+        assertNull(stock.snapshotThrough());
+    }
+
+    @Test
+    void testStockSnapshotService_WhenTakingSnapshots_ShouldLeaveTheSettleWindowOut() {
+        when(stockSnapshotRepository.takeSnapshots(any(), any())).thenReturn(3);
+
+        assertEquals(3, stockSnapshotService.takeSnapshots());
+        verify(stockSnapshotRepository).takeSnapshots(
+                argThat(cutoff -> cutoff.isBefore(LocalDateTime.now().minusMinutes(4))), any());
+    }
+}
@@ -0,0 +1,95 @@
+package com.restaurant.restaurantManagement.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.restaurant.restaurantManagement.enums.ExportFormat;
+import com.restaurant.restaurantManagement.enums.MeasurementUnit;
+import com.restaurant.restaurantManagement.enums.TransactionMotivation;
+import com.restaurant.restaurantManagement.enums.TransactionType;
+import com.restaurant.restaurantManagement.exception.BusinessException;
+import com.restaurant.restaurantManagement.model.dto.inventoryTransaction.TransactionExportRowDTO;
+import com.restaurant.restaurantManagement.repository.InventoryTransactionRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class TransactionExportServiceTests {
+
+    @Mock
+    private InventoryTransactionRepository inventoryTransactionRepository;
+
+    private TransactionExportService transactionExportService;
+    private TransactionExportRowDTO row;
+
+    @BeforeEach
+    void setup() {
+        var objectMapper = new ObjectMapper().registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        transactionExportService = new TransactionExportService(inventoryTransactionRepository, objectMapper);
+
+        row = TransactionExportRowDTO.builder()
+                .id(7L)
+                .transactionDateAndTime(LocalDateTime.of(2025, 3, 1, 10, 30))
+                .transactionType(TransactionType.OUTBOUND)
+                .quantity(2L)
+                .measurementUnit(MeasurementUnit.KILOGRAM)
+                .unitPrice(BigDecimal.valueOf(9.99))
+                .motivation(TransactionMotivation.CONSUMPTION)
+                .details("Sauce, \"special\"")
+                .productId(1L)
+                .productName("Tomato")
+                .responsibleId(3L)
+                .responsibleName("João da Silva")
+                .build();
+    }
+
+    @Test
+    void testTransactionExportService_WhenExportingAsCsv_ShouldWriteHeaderAndEscapeFields() throws Exception {
+        var closed = new AtomicBoolean();
+        when(inventoryTransactionRepository.streamForExport(any(), any()))
+                .thenReturn(Stream.of(row).onClose(() -> closed.set(true)));
+        var output = new ByteArrayOutputStream();
+
+        transactionExportService.exportTransactions(null, null, ExportFormat.CSV, output);
+
+        var lines = output.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(2, lines.length);
+        assertTrue(lines[0].startsWith("id,transaction_date_and_time,type"));
+        assertEquals("7,2025-03-01T10:30,OUTBOUND,2,KILOGRAM,9.99,CONSUMPTION,\"Sauce, \"\"special\"\"\",1,Tomato,3,João da Silva", lines[1]);
+        assertTrue(closed.get());
+    }
+
+    @Test
+    void testTransactionExportService_WhenExportingAsNdjson_ShouldWriteOneObjectPerLine() throws Exception {
+        when(inventoryTransactionRepository.streamForExport(any(), any())).thenReturn(Stream.of(row, row));
+        var output = new ByteArrayOutputStream();
+
+        transactionExportService.exportTransactions(null, null, ExportFormat.NDJSON, output);
+
+        var lines = output.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(2, lines.length);
+        assertTrue(lines[0].contains("\"transactionDateAndTime\":\"2025-03-01T10:30:00\""));
+        assertTrue(lines[0].contains("\"productName\":\"Tomato\""));
+    }
+
+    @Test
+    void testTransactionExportService_WhenDateRangeIsInverted_ShouldThrowBusinessException() {
+        var from = LocalDateTime.of(2025, 2, 1, 0, 0);
+        assertThrows(BusinessException.class, () -> transactionExportService.validateRange(from, from.minusDays(1)));
+    }
+}
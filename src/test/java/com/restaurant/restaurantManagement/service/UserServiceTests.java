@@ -1,11 +1,13 @@
 package com.restaurant.restaurantManagement.service;
 
 import com.restaurant.restaurantManagement.enums.UserProfile;
+import com.restaurant.restaurantManagement.events.UserChangedEvent;
 import com.restaurant.restaurantManagement.exception.EmailAlreadyRegisteredException;
 import com.restaurant.restaurantManagement.exception.OperationNotAllowedException;
 import com.restaurant.restaurantManagement.exception.ResourceNotFoundException;
 import com.restaurant.restaurantManagement.model.dto.user.CreateUserDTO;
 import com.restaurant.restaurantManagement.model.dto.user.GetUserDTO;
+import com.restaurant.restaurantManagement.model.dto.user.UpdateUserDTO;
 import com.restaurant.restaurantManagement.model.entity.Authority;
 import com.restaurant.restaurantManagement.model.entity.User;
 import com.restaurant.restaurantManagement.model.mapper.UserMapper;
@@ -18,6 +20,7 @@ import org.mockito.ArgumentMatchers;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
 import java.util.List;
@@ -42,6 +45,9 @@ public class UserServiceTests {
     @Mock
     private PasswordEncoder passwordEncoder;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private UserService userService;
 
@@ -150,6 +156,55 @@ public class UserServiceTests {
 
         when(userRepository.findByEmail(email)).thenReturn(Optional.of(user));
         assertThrows(OperationNotAllowedException.class, () -> userService.deleteUser(userId, email));
-        verify(userRepository, never()).delete(any());
+        verify(userRepository, never()).delete(any(User.class));
+    }
+
+    @Test
+    void testUserService_WhenDeletingAUser_ShouldPublishUserChangedEvent() {
+        User loggedUser = new User();
+        loggedUser.setId(2L);
+        loggedUser.setEmail("owner@example.com");
+
+        when(userRepository.findByEmail("owner@example.com")).thenReturn(Optional.of(loggedUser));
+        when(userRepository.findById(1L)).thenReturn(Optional.of(user));
+        userService.deleteUser(1L, "owner@example.com");
+
+        verify(userRepository).delete(user);
+        verify(eventPublisher).publishEvent(new UserChangedEvent(1L));
+    }
+
+    @Test
+    void testUserService_WhenUpdatingAUserPassword_ShouldStoreItEncoded() {
+        var updateUserDTO = UpdateUserDTO.builder()
+                .name("Alice")
+                .email("alice@email.com")
+                .password("newPassword")
+                .profile(UserProfile.EMPLOYEE)
+                .build();
+        when(userRepository.findById(1L)).thenReturn(Optional.of(user));
+        when(passwordEncoder.encode("newPassword")).thenReturn("encodedNewPassword");
+        when(userRepository.save(user)).thenReturn(user);
+
+        userService.updateUser(1L, updateUserDTO);
+
+        assertEquals("encodedNewPassword", user.getPassword());
+        assertEquals(1L, user.getTokenVersion());
+    }
+
+    @Test
+    void testUserService_WhenUpdatingAUserWithoutPassword_ShouldKeepTheCurrentHash() {
+        var updateUserDTO = UpdateUserDTO.builder()
+                .name("Alice")
+                .email("alice@email.com")
+                .profile(UserProfile.EMPLOYEE)
+                .build();
+        when(userRepository.findById(1L)).thenReturn(Optional.of(user));
+        when(userRepository.save(user)).thenReturn(user);
+
+        userService.updateUser(1L, updateUserDTO);
+
+        assertEquals("123456", user.getPassword());
+        assertEquals(0L, user.getTokenVersion());
+        verify(passwordEncoder, never()).encode(any());
     }
 }
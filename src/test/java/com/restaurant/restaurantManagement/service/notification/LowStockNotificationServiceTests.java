@@ -0,0 +1,80 @@
+package com.restaurant.restaurantManagement.service.notification;
+
+import com.restaurant.restaurantManagement.enums.NotificationChannel;
+import com.restaurant.restaurantManagement.enums.OutboxStatus;
+import com.restaurant.restaurantManagement.events.LowStockEvent;
+import com.restaurant.restaurantManagement.model.dto.user.UserContactDTO;
+import com.restaurant.restaurantManagement.model.entity.NotificationOutbox;
+import com.restaurant.restaurantManagement.repository.NotificationOutboxRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.mockito.ArgumentMatchers.any;
+
+@ExtendWith(MockitoExtension.class)
+public class LowStockNotificationServiceTests {
+
+    @Mock
+    private OwnerContactCache ownerContactCache;
+
+    @Mock
+    private NotificationOutboxRepository notificationOutboxRepository;
+
+    @InjectMocks
+    private LowStockNotificationService notificationService;
+
+    @Captor
+    private ArgumentCaptor<List<NotificationOutbox>> notificationsCaptor;
+
+    @Test
+    void testLowStockNotificationService_WhenStockIsLow_ShouldWriteOnePendingNotificationPerOwnerAndChannel() {
+        when(ownerContactCache.getOwners()).thenReturn(List.of(new UserContactDTO("owner@example.com", "5547999998769")));
+
+        notificationService.onLowStock(new LowStockEvent(1L, "Tomato", 4L, 5L));
+
+        verify(notificationOutboxRepository).saveAll(notificationsCaptor.capture());
+        var notifications = notificationsCaptor.getValue();
+        assertEquals(2, notifications.size());
+        assertEquals(NotificationChannel.EMAIL, notifications.get(0).getChannel());
+        assertEquals("owner@example.com", notifications.get(0).getRecipient());
+        assertEquals(NotificationChannel.WHATSAPP, notifications.get(1).getChannel());
+        assertEquals("5547999998769", notifications.get(1).getRecipient());
+        assertTrue(notifications.stream().allMatch(notification -> notification.getStatus() == OutboxStatus.PENDING
+                && notification.getProductId() == 1L && notification.getMessage().contains("Current stock: 4")));
+    }
+
+    @Test
+    void testLowStockNotificationService_WhenOwnerHasNoPhone_ShouldOnlyWriteTheEmailNotification() {
+        when(ownerContactCache.getOwners()).thenReturn(List.of(
+                new UserContactDTO("owner@example.com", null),
+                new UserContactDTO("manager@example.com", " ")));
+
+        notificationService.onLowStock(new LowStockEvent(1L, "Tomato", 4L, 5L));
+
+        verify(notificationOutboxRepository).saveAll(notificationsCaptor.capture());
+        var notifications = notificationsCaptor.getValue();
+        assertEquals(2, notifications.size());
+        assertTrue(notifications.stream().allMatch(notification -> notification.getChannel() == NotificationChannel.EMAIL));
+    }
+
+    @Test
+    void testLowStockNotificationService_WhenNoOwnerHasAContact_ShouldNotWriteNotifications() {
+        when(ownerContactCache.getOwners()).thenReturn(List.of(new UserContactDTO(null, "")));
+
+        notificationService.onLowStock(new LowStockEvent(1L, "Tomato", 4L, 5L));
+
+        verify(notificationOutboxRepository, never()).saveAll(any());
+    }
+}
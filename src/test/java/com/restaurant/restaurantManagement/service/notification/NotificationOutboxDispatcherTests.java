@@ -0,0 +1,127 @@
+package com.restaurant.restaurantManagement.service.notification;
+
+import com.restaurant.restaurantManagement.enums.NotificationChannel;
+import com.restaurant.restaurantManagement.enums.OutboxStatus;
+import com.restaurant.restaurantManagement.model.entity.NotificationOutbox;
+import com.restaurant.restaurantManagement.repository.NotificationOutboxRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class NotificationOutboxDispatcherTests {
+
+    @Mock
+    private NotificationOutboxRepository notificationOutboxRepository;
+
+    @Mock
+    private EmailService emailService;
+
+    @Mock
+    private WhatsappService whatsappService;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private NotificationOutboxDispatcher dispatcher;
+
+    @BeforeEach
+    void setup() {
+        dispatcher = new NotificationOutboxDispatcher(notificationOutboxRepository, emailService, whatsappService,
+                new TransactionTemplate(transactionManager));
+        ReflectionTestUtils.setField(dispatcher, "batchSize", 50);
+        ReflectionTestUtils.setField(dispatcher, "maxAttempts", 3);
+        ReflectionTestUtils.setField(dispatcher, "initialBackoff", Duration.ofSeconds(30));
+        ReflectionTestUtils.setField(dispatcher, "maxBackoff", Duration.ofHours(1));
+        ReflectionTestUtils.setField(dispatcher, "lease", Duration.ofMinutes(5));
+    }
+
+    @Test
+    void testNotificationOutboxDispatcher_WhenSameAlertIsPendingTwice_ShouldSendOnlyTheLatest() {
+        var older = pending(1L, NotificationChannel.EMAIL, "Current stock: 4");
+        var newer = pending(2L, NotificationChannel.EMAIL, "Current stock: 3");
+        when(notificationOutboxRepository.claimPending(any(LocalDateTime.class), eq(50))).thenReturn(List.of(older, newer));
+
+        dispatcher.dispatchPending();
+
+        verify(emailService, times(1)).sendEmail("owner@example.com", "Low Stock: Tomato", "Current stock: 3");
+        assertEquals(OutboxStatus.DELIVERED, older.getStatus());
+        assertEquals(OutboxStatus.DELIVERED, newer.getStatus());
+    }
+
+    @Test
+    void testNotificationOutboxDispatcher_WhenDeliveryFails_ShouldScheduleRetryWithBackoff() {
+        var notification = pending(1L, NotificationChannel.WHATSAPP, "Current stock: 4");
+        when(notificationOutboxRepository.claimPending(any(LocalDateTime.class), eq(50))).thenReturn(List.of(notification));
+        doThrow(new RuntimeException("Twilio unavailable")).when(whatsappService).sendWhatsAppMessage(anyString(), anyString());
+
+        dispatcher.dispatchPending();
+
+        assertEquals(OutboxStatus.PENDING, notification.getStatus());
+        assertEquals(1, notification.getAttempts());
+        assertEquals("Twilio unavailable", notification.getLastError());
+        assertTrue(notification.getNextAttemptAt().isAfter(LocalDateTime.now().plusSeconds(20)));
+    }
+
+    @Test
+    void testNotificationOutboxDispatcher_WhenMaxAttemptsIsReached_ShouldMarkAsFailed() {
+        var notification = pending(1L, NotificationChannel.EMAIL, "Current stock: 4");
+        notification.setAttempts(2);
+        when(notificationOutboxRepository.claimPending(any(LocalDateTime.class), eq(50))).thenReturn(List.of(notification));
+        doThrow(new RuntimeException("SMTP down")).when(emailService).sendEmail(anyString(), anyString(), anyString());
+
+        dispatcher.dispatchPending();
+
+        assertEquals(OutboxStatus.FAILED, notification.getStatus());
+        assertEquals(3, notification.getAttempts());
+    }
+
+    @Test
+    void testNotificationOutboxDispatcher_WhenSending_ShouldHoldNoTransactionAndLeaseTheClaimedRow() {
+        var notification = pending(1L, NotificationChannel.EMAIL, "Current stock: 4");
+        when(notificationOutboxRepository.claimPending(any(LocalDateTime.class), eq(50))).thenReturn(List.of(notification));
+        doAnswer(invocation -> {
+            assertTrue(notification.getNextAttemptAt().isAfter(LocalDateTime.now().plusMinutes(4)));
+            return null;
+        }).when(emailService).sendEmail(anyString(), anyString(), anyString());
+
+        dispatcher.dispatchPending();
+
+        var inOrder = inOrder(transactionManager, notificationOutboxRepository, emailService);
+        inOrder.verify(notificationOutboxRepository).claimPending(any(LocalDateTime.class), eq(50));
+        inOrder.verify(transactionManager).commit(any());
+        inOrder.verify(emailService).sendEmail("owner@example.com", "Low Stock: Tomato", "Current stock: 4");
+        inOrder.verify(transactionManager).getTransaction(any());
+        inOrder.verify(notificationOutboxRepository).save(notification);
+        inOrder.verify(transactionManager).commit(any());
+        assertEquals(OutboxStatus.DELIVERED, notification.getStatus());
+    }
+
+    private NotificationOutbox pending(Long id, NotificationChannel channel, String message) {
+        return NotificationOutbox.builder()
+                .id(id)
+                .channel(channel)
+                .recipient(channel == NotificationChannel.EMAIL ? "owner@example.com" : "5547999998769")
+                .subject("Low Stock: Tomato")
+                .message(message)
+                .productId(1L)
+                .status(OutboxStatus.PENDING)
+                .attempts(0)
+                .nextAttemptAt(LocalDateTime.now())
+                .build();
+    }
+}
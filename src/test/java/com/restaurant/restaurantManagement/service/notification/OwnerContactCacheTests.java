@@ -0,0 +1,79 @@
+package com.restaurant.restaurantManagement.service.notification;
+
+import com.restaurant.restaurantManagement.enums.UserProfile;
+import com.restaurant.restaurantManagement.events.UserChangedEvent;
+import com.restaurant.restaurantManagement.model.dto.user.UserContactDTO;
+import com.restaurant.restaurantManagement.repository.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class OwnerContactCacheTests {
+
+    @Mock
+    private UserRepository userRepository;
+
+    private OwnerContactCache ownerContactCache;
+    private List<UserContactDTO> owners;
+    private AtomicLong nanos;
+
+    @BeforeEach
+    void setup() {
+        nanos = new AtomicLong();
+        ownerContactCache = new OwnerContactCache(userRepository, Duration.ofMinutes(5), nanos::get, new SimpleMeterRegistry());
+        owners = List.of(new UserContactDTO("owner@example.com", "5547999998769"));
+    }
+
+    @Test
+    void testOwnerContactCache_WhenCalledRepeatedly_ShouldQueryOwnersOnce() {
+        when(userRepository.findContactsByProfile(UserProfile.OWNER)).thenReturn(owners);
+
+        ownerContactCache.getOwners();
+        ownerContactCache.getOwners();
+        var result = ownerContactCache.getOwners();
+
+        assertEquals(owners, result);
+        assertEquals(2, ownerContactCache.getHitCount());
+        assertEquals(1, ownerContactCache.getMissCount());
+        verify(userRepository, times(1)).findContactsByProfile(UserProfile.OWNER);
+    }
+
+    @Test
+    void testOwnerContactCache_WhenAUserChanges_ShouldReloadOwners() {
+        when(userRepository.findContactsByProfile(UserProfile.OWNER)).thenReturn(owners);
+
+        ownerContactCache.getOwners();
+        ownerContactCache.onUserChanged(new UserChangedEvent(1L));
+        ownerContactCache.getOwners();
+
+        assertEquals(2, ownerContactCache.getMissCount());
+        verify(userRepository, times(2)).findContactsByProfile(UserProfile.OWNER);
+    }
+
+    @Test
+    void testOwnerContactCache_WhenTtlElapses_ShouldReloadOwnersChangedElsewhere() {
+        var changedOwners = List.of(new UserContactDTO("new-owner@example.com", null));
+        when(userRepository.findContactsByProfile(UserProfile.OWNER)).thenReturn(owners, changedOwners);
+
+        ownerContactCache.getOwners();
+        nanos.addAndGet(Duration.ofMinutes(4).toNanos());
+        assertEquals(owners, ownerContactCache.getOwners());
+        nanos.addAndGet(Duration.ofMinutes(2).toNanos());
+
+        assertEquals(changedOwners, ownerContactCache.getOwners());
+        assertEquals(2, ownerContactCache.getMissCount());
+    }
+}